@@ -0,0 +1,106 @@
+package com.nassaupro.crud.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.nassaupro.crud.CpfGenerator;
+import com.nassaupro.crud.NassauProApplication;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.repository.BulkInsertRepository;
+import com.nassaupro.crud.repository.ClientRepository;
+
+/**
+ * Linhas por segundo do cadastro de clientes: o caminho do /clients/create
+ * (um saveAndFlush por cliente; CPF repetido é barrado pela constraint) contra o do /clients/bulk
+ * (uma consulta de CPFs + inserts em lote). Roda contra um H2 em memória.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+	private static final int ROWS = 500;
+
+	private ConfigurableApplicationContext context;
+
+	private ClientRepository clientRepository;
+
+	private BulkInsertRepository bulkInsertRepository;
+
+	private long sequence;
+
+	@Setup(Level.Trial)
+	public void startApplication() {
+		context = new SpringApplicationBuilder(NassauProApplication.class).web(WebApplicationType.NONE).run(
+				"--spring.datasource.url=jdbc:h2:mem:bulk-benchmark;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.driver-class-name=org.h2.Driver", "--spring.datasource.username=sa",
+				"--spring.datasource.password=", "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create-drop", "--spring.jpa.show-sql=false",
+				"--spring.flyway.enabled=false");
+		clientRepository = context.getBean(ClientRepository.class);
+		bulkInsertRepository = context.getBean(BulkInsertRepository.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopApplication() {
+		context.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void singleCreate() {
+		for (Client client : newClients()) {
+			clientRepository.saveAndFlush(client);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void bulkCreate() {
+		List<Client> clients = newClients();
+		List<String> cpfs = new ArrayList<>(ROWS);
+		clients.forEach(client -> cpfs.add(client.getCpf()));
+
+		if (clientRepository.findExistingCpfs(cpfs).isEmpty()) {
+			bulkInsertRepository.persistAll(clients);
+		}
+	}
+
+	private List<Client> newClients() {
+		List<Client> clients = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			long n = sequence++;
+			Client client = new Client();
+			client.setFulanoHumberto("Melo");
+			client.setLastName("Meloso");
+			client.setEmail("melo" + n + "@gmail.com");
+			client.setPassword("Melo123456");
+			client.setCpf(CpfGenerator.cpf(n));
+			client.setPhoneNumber("81912345678");
+			client.setUserType(Client.UserType.CLIENT);
+			clients.add(client);
+		}
+		return clients;
+	}
+}
@@ -0,0 +1,88 @@
+package com.nassaupro.crud.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nassaupro.crud.clientdto.ClientListDTO;
+import com.nassaupro.crud.clientdto.CursorPageDTO;
+import com.nassaupro.crud.clientdto.ServiceListDTO;
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.pagination.KeysetCursor;
+
+/**
+ * Serialização das respostas dos endpoints /list, com o ObjectMapper configurado como o do
+ * Spring Boot, em páginas do tamanho padrão e do máximo permitido.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+	@Param({ "20", "100" })
+	private int pageSize;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private CursorPageDTO<ServiceListDTO> servicePage;
+
+	private CursorPageDTO<ClientListDTO> clientPage;
+
+	private CursorPageDTO<Category> categoryPage;
+
+	@Setup
+	public void setUp() {
+		List<ServiceListDTO> services = new ArrayList<>(pageSize);
+		List<ClientListDTO> clients = new ArrayList<>(pageSize);
+		List<Category> categories = new ArrayList<>(pageSize);
+		for (long id = 1; id <= pageSize; id++) {
+			services.add(new ServiceListDTO(id, "Serviço de Personal Trainer " + id,
+					"Treinamento personalizado para condicionamento físico"));
+			clients.add(new ClientListDTO(id, "Melo", "Meloso", "melo.meloso" + id + "@gmail.com", "81912345678"));
+
+			Category category = new Category();
+			category.setId(id);
+			category.setName("Fitness " + id);
+			category.setDescription("Categoria de serviços de condicionamento físico");
+			categories.add(category);
+		}
+
+		String nextCursor = KeysetCursor.encode((long) pageSize);
+		servicePage = new CursorPageDTO<>(services, nextCursor);
+		clientPage = new CursorPageDTO<>(clients, nextCursor);
+		categoryPage = new CursorPageDTO<>(categories, nextCursor);
+	}
+
+	@Benchmark
+	public byte[] servicesList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(servicePage);
+	}
+
+	@Benchmark
+	public byte[] clientsList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(clientPage);
+	}
+
+	@Benchmark
+	public byte[] categoriesList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(categoryPage);
+	}
+}
@@ -0,0 +1,104 @@
+package com.nassaupro.crud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nassaupro.crud.clientdto.ClientListDTO;
+import com.nassaupro.crud.clientdto.ServiceListDTO;
+import com.nassaupro.crud.mapper.DtoMapper;
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.model.Service;
+
+/**
+ * Compara o DtoMapper com o caminho antigo do ModelMapper: uma instância nova
+ * por requisição (como getClientById/getServiceById faziam) e o bean
+ * compartilhado do antigo ModelMapperConfig.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+	private final ModelMapper sharedModelMapper = new ModelMapper();
+
+	private final DtoMapper dtoMapper = new DtoMapper();
+
+	private Client client;
+
+	private Service service;
+
+	@Setup
+	public void setUp() {
+		client = new Client();
+		client.setId(1L);
+		client.setFulanoHumberto("Melo");
+		client.setLastName("Meloso");
+		client.setEmail("melo.meloso@gmail.com");
+		client.setPassword("Melo123456");
+		client.setCpf("69475441069");
+		client.setPhoneNumber("81912345678");
+		client.setUserType(Client.UserType.CLIENT);
+
+		Category category = new Category();
+		category.setId(1L);
+		category.setName("Fitness");
+		category.setDescription("Categoria de serviços de condicionamento físico");
+
+		service = new Service();
+		service.setId(1L);
+		service.setName("Serviço de Personal Trainer");
+		service.setDescription("Treinamento personalizado para condicionamento físico");
+		service.setPrice(25.0);
+		service.setCategory(category);
+		service.setClient(client);
+
+		// Aquece os TypeMaps do mapper compartilhado, como aconteceria em produção
+		sharedModelMapper.map(client, ClientListDTO.class);
+		sharedModelMapper.map(service, ServiceListDTO.class);
+	}
+
+	@Benchmark
+	public ClientListDTO clientModelMapperPerRequest() {
+		return new ModelMapper().map(client, ClientListDTO.class);
+	}
+
+	@Benchmark
+	public ClientListDTO clientModelMapperShared() {
+		return sharedModelMapper.map(client, ClientListDTO.class);
+	}
+
+	@Benchmark
+	public ClientListDTO clientDtoMapper() {
+		return dtoMapper.toClientListDTO(client);
+	}
+
+	@Benchmark
+	public ServiceListDTO serviceModelMapperPerRequest() {
+		return new ModelMapper().map(service, ServiceListDTO.class);
+	}
+
+	@Benchmark
+	public ServiceListDTO serviceModelMapperShared() {
+		return sharedModelMapper.map(service, ServiceListDTO.class);
+	}
+
+	@Benchmark
+	public ServiceListDTO serviceDtoMapper() {
+		return dtoMapper.toServiceListDTO(service);
+	}
+}
@@ -0,0 +1,139 @@
+package com.nassaupro.crud.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.hibernate.validator.constraints.br.CPF;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nassaupro.crud.model.Client;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Custo do {@code @Valid} no cadastro de cliente: o objeto inteiro (válido e com todos os
+ * campos inválidos, que paga também a interpolação das mensagens) e cada restrição cara
+ * isolada (nome, CPF e e-mail). Os métodos {@code legacy*} validam os mesmos valores com as
+ * anotações que o {@code Client} usava antes ({@code @Pattern}, {@code @CPF} e {@code @Email}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+	// Os campos do Client com as restrições antigas, baseadas em regex
+	public static class LegacyClient {
+
+		@Pattern(regexp = "^[a-zA-ZúÚíÍóÓýÝéÉáÁçÇãÃõÕôÔêÊûÛ\\s]+$", message = "O nome só deve conter letras")
+		String fulanoHumberto;
+
+		@Email
+		String email;
+
+		@CPF(message = "O CPF informado não é válido")
+		@Pattern(regexp = "^[0-9]+$", message = "O CPF deve ser composto apenas por números, sem pontos ou espaços em branco")
+		String cpf;
+	}
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private Client validClient;
+
+	private Client invalidClient;
+
+	private LegacyClient legacyClient;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+
+		validClient = new Client();
+		validClient.setFulanoHumberto("Melo");
+		validClient.setLastName("Meloso");
+		validClient.setEmail("melo.meloso@gmail.com");
+		validClient.setPassword("Melo123456");
+		validClient.setCpf("69475441069");
+		validClient.setPhoneNumber("81912345678");
+		validClient.setUserType(Client.UserType.CLIENT);
+
+		invalidClient = new Client();
+		invalidClient.setFulanoHumberto("M3lo");
+		invalidClient.setLastName("Mel0so");
+		invalidClient.setEmail("melo.meloso@");
+		invalidClient.setPassword("123");
+		invalidClient.setCpf("12345678900");
+		invalidClient.setPhoneNumber("8191234567a");
+		invalidClient.setUserType(Client.UserType.CLIENT);
+
+		legacyClient = new LegacyClient();
+		legacyClient.fulanoHumberto = validClient.getFulanoHumberto();
+		legacyClient.email = validClient.getEmail();
+		legacyClient.cpf = validClient.getCpf();
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Client>> validClient() {
+		return validator.validate(validClient);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Client>> invalidClient() {
+		return validator.validate(invalidClient);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Client>> namePattern() {
+		return validator.validateProperty(validClient, "fulanoHumberto");
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Client>> cpf() {
+		return validator.validateProperty(validClient, "cpf");
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Client>> email() {
+		return validator.validateProperty(validClient, "email");
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<LegacyClient>> legacyNamePattern() {
+		return validator.validateProperty(legacyClient, "fulanoHumberto");
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<LegacyClient>> legacyCpf() {
+		return validator.validateProperty(legacyClient, "cpf");
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<LegacyClient>> legacyEmail() {
+		return validator.validateProperty(legacyClient, "email");
+	}
+}
@@ -0,0 +1,41 @@
+package com.nassaupro.crud.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code ClientController.isValidEmail}, chamado no update de cliente, contra o
+ * {@code String.matches} que ele usava antes. Fica no mesmo pacote do controller porque o
+ * método não é público.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientControllerBenchmark {
+
+	@Param({ "melo.meloso@gmail.com", "melo.meloso.gmail.com" })
+	private String email;
+
+	@Benchmark
+	public boolean isValidEmail() {
+		return ClientController.isValidEmail(email);
+	}
+
+	@Benchmark
+	public boolean regex() {
+		return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+	}
+}
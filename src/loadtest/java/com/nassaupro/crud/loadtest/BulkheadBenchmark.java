@@ -0,0 +1,107 @@
+package com.nassaupro.crud.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Rajada de listas ({@code /clients/list} e {@code /services/list}, classe "heavy") ao mesmo
+ * tempo que consultas por ID de categoria (classe "light"), primeiro sem bulkheads e depois
+ * com eles. Sem bulkheads as listas ocupam o pool do Hikari e as consultas por ID esperam na
+ * fila de conexões; com eles o excesso de listas recebe 503 e o p99 das consultas por ID
+ * deve ficar perto do de uma aplicação ociosa.
+ * <p>
+ * Executar: {@code ./mvnw -Ploadtest verify -DskipTests -Dloadtest.main=com.nassaupro.crud.loadtest.BulkheadBenchmark}.
+ * Parâmetros: {@code loadtest.heavy-users}, {@code loadtest.light-users}, {@code loadtest.warmup}
+ * e {@code loadtest.duration} (segundos), {@code loadtest.db-latency-ms} e {@code loadtest.output} (CSV).
+ * O pool do Hikari fica no padrão (10) de propósito: é ele que as classes disputam.
+ */
+public final class BulkheadBenchmark {
+
+	private BulkheadBenchmark() {
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+		int heavyUsers = Integer.getInteger("loadtest.heavy-users", 200);
+		int lightUsers = Integer.getInteger("loadtest.light-users", 20);
+		Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+		Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 20));
+		Duration dbLatency = Duration.ofMillis(Long.getLong("loadtest.db-latency-ms", 20));
+		Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest/bulkheads.csv"));
+		LoadTestData data = LoadTestData.fromSystemProperties();
+
+		List<String> rows = new ArrayList<>();
+		rows.add("bulkheads,class,users,requests,rejected,throughput_rps,p50_ms,p99_ms,max_ms");
+		System.out.printf("%-9s %-6s %6s %9s %9s %10s %9s %9s %9s%n", "bulkheads", "class", "users", "requests",
+				"rejected", "req/s", "p50 ms", "p99 ms", "max ms");
+
+		HttpClient httpClient = LoadGenerator.newHttpClient();
+		LoadGenerator generator = new LoadGenerator(httpClient);
+		for (boolean enabled : new boolean[] { false, true }) {
+			try (LoadTestApplication application = LoadTestApplication.start("bulkheads-" + enabled, dbLatency, data,
+					"--nassaupro.bulkhead.enabled=" + enabled)) {
+
+				LoadGenerator.Workload heavy = heavyReads(application);
+				LoadGenerator.Workload light = lookups(application);
+				LoadGenerator.Report heavyReport;
+				LoadGenerator.Report lightReport;
+				try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+					Future<LoadGenerator.Report> heavyRun = executor
+							.submit(() -> generator.run(heavy, heavyUsers, warmup, duration));
+					Future<LoadGenerator.Report> lightRun = executor
+							.submit(() -> generator.run(light, lightUsers, warmup, duration));
+					heavyReport = heavyRun.get();
+					lightReport = lightRun.get();
+				}
+
+				String mode = enabled ? "on" : "off";
+				rows.add(row(mode, "heavy", heavyUsers, heavyReport));
+				rows.add(row(mode, "light", lightUsers, lightReport));
+			}
+		}
+
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+			rows.forEach(writer::println);
+		}
+		System.out.println("Resultados gravados em " + output.toAbsolutePath());
+	}
+
+	private static String row(String mode, String endpointClass, int users, LoadGenerator.Report report) {
+		LatencyRecorder total = report.total();
+		System.out.printf(Locale.ROOT, "%-9s %-6s %6d %9d %9d %10.1f %9.2f %9.2f %9.2f%n", mode, endpointClass, users,
+				total.getCount(), total.getErrors(), report.throughput(), total.percentileMillis(50),
+				total.percentileMillis(99), total.percentileMillis(100));
+		return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f", mode, endpointClass, users,
+				total.getCount(), total.getErrors(), report.throughput(), total.percentileMillis(50),
+				total.percentileMillis(99), total.percentileMillis(100));
+	}
+
+	private static LoadGenerator.Workload heavyReads(LoadTestApplication application) {
+		HttpRequest clients = ThreadModeBenchmark.get(application.getBaseUrl() + "/clients/list?size=100");
+		HttpRequest services = ThreadModeBenchmark.get(application.getBaseUrl() + "/services/list?size=100");
+		return random -> random.nextBoolean() ? new LoadGenerator.Call("GET /clients/list", clients)
+				: new LoadGenerator.Call("GET /services/list", services);
+	}
+
+	private static LoadGenerator.Workload lookups(LoadTestApplication application) {
+		String baseUrl = application.getBaseUrl();
+		List<Long> categoryIds = application.getCategoryIds();
+		return random -> {
+			Long id = categoryIds.get(random.nextInt(categoryIds.size()));
+			return new LoadGenerator.Call("GET /categories/list/{id}",
+					ThreadModeBenchmark.get(baseUrl + "/categories/list/" + id));
+		};
+	}
+}
@@ -0,0 +1,240 @@
+package com.nassaupro.crud.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.nassaupro.crud.CpfGenerator;
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.model.Service;
+import com.nassaupro.crud.repository.BulkInsertRepository;
+
+/**
+ * Mistura de leituras e escritas sobre todos os endpoints dos três controllers.
+ * {@code writePercent} define a fração de escritas; dentro de cada grupo a escolha segue o
+ * peso de cada endpoint. Leituras e updates usam os dados da carga inicial; os deletes
+ * consomem linhas descartáveis criadas só para eles, então nenhuma leitura recebe 404.
+ */
+public final class CatalogWorkload implements LoadGenerator.Workload {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+	private static final int BULK_SIZE = 10;
+
+	// Os CPFs da carga inicial começam em 0; os criados durante a medição, bem depois
+	private static final long CREATED_CPF_OFFSET = 100_000_000L;
+
+	private static final long DISPOSABLE_CPF_OFFSET = 50_000_000L;
+
+	private static final String[] TEXT_QUERIES = { "yoga", "massagem", "personal trainer", "carga" };
+
+	private record Operation(String endpoint, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+	}
+
+	private final String baseUrl;
+
+	private final List<Long> categoryIds;
+
+	private final List<Long> clientIds;
+
+	private final List<Long> serviceIds;
+
+	private final Queue<Long> disposableCategories = new ConcurrentLinkedQueue<>();
+
+	private final Queue<Long> disposableClients = new ConcurrentLinkedQueue<>();
+
+	private final Queue<Long> disposableServices = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final int writePercent;
+
+	private final List<Operation> reads = new ArrayList<>();
+
+	private final List<Operation> writes = new ArrayList<>();
+
+	private CatalogWorkload(LoadTestApplication application, int writePercent) {
+		this.baseUrl = application.getBaseUrl();
+		this.categoryIds = application.getCategoryIds();
+		this.clientIds = application.getClientIds();
+		this.serviceIds = application.getServiceIds();
+		this.writePercent = writePercent;
+
+		reads.add(new Operation("GET /categories/list", 10, random -> get("/categories/list?size=20")));
+		reads.add(new Operation("GET /categories/list/{id}", 5, random -> get("/categories/list/" + pick(random, categoryIds))));
+		reads.add(new Operation("GET /clients/list", 8, random -> get("/clients/list?size=20")));
+		reads.add(new Operation("GET /clients/list/{id}", 10, random -> get("/clients/list/" + pick(random, clientIds))));
+		reads.add(new Operation("GET /services/list", 12, random -> get("/services/list?size=20")));
+		reads.add(new Operation("GET /services/list/{id}", 10, random -> get("/services/list/" + pick(random, serviceIds))));
+		reads.add(new Operation("GET /services/search", 6, random -> get("/services/search?categoryId="
+				+ pick(random, categoryIds) + "&maxPrice=" + (20 + random.nextInt(200))
+				+ "&sort=" + (random.nextBoolean() ? "price" : "name") + "&size=20")));
+		reads.add(new Operation("GET /services/search/text", 4, random -> get("/services/search/text?size=20&q="
+				+ URLEncoder.encode(TEXT_QUERIES[random.nextInt(TEXT_QUERIES.length)], StandardCharsets.UTF_8))));
+		reads.add(new Operation("GET /services/export", 1, random -> get("/services/export")));
+
+		writes.add(new Operation("POST /categories/create", 4, random -> post("/categories/create", categoryJson())));
+		writes.add(new Operation("POST /categories/bulk", 1, random -> post("/categories/bulk", bulk(this::categoryJson))));
+		writes.add(new Operation("PUT /categories/change/{id}", 3,
+				random -> put("/categories/change/" + pick(random, categoryIds), categoryJson())));
+		writes.add(new Operation("DELETE /categories/delete/{id}", 1, random -> delete("/categories/delete/", disposableCategories)));
+		writes.add(new Operation("POST /clients/create", 6, random -> post("/clients/create", clientJson())));
+		writes.add(new Operation("POST /clients/bulk", 1, random -> post("/clients/bulk", bulk(this::clientJson))));
+		writes.add(new Operation("PUT /clients/change/{id}", 5, random -> {
+			Long id = pick(random, clientIds);
+			return put("/clients/change/" + id, "{\"fulanoHumberto\":\"Cliente\",\"lastName\":\"Atualizado\","
+					+ "\"email\":\"atualizado" + id + "@carga.com\",\"phoneNumber\":\"81987654321\"}");
+		}));
+		writes.add(new Operation("DELETE /clients/delete/{id}", 1, random -> delete("/clients/delete/", disposableClients)));
+		writes.add(new Operation("POST /services/create", 8, random -> post("/services/create", serviceJson(random))));
+		writes.add(new Operation("POST /services/bulk", 1, random -> post("/services/bulk", bulk(() -> serviceJson(random)))));
+		writes.add(new Operation("PUT /services/change/{id}", 6, random -> put("/services/change/" + pick(random, serviceIds),
+				"{\"name\":\"Serviço atualizado " + sequence.incrementAndGet() + "\"}")));
+		writes.add(new Operation("DELETE /services/delete/{id}", 2, random -> delete("/services/delete/", disposableServices)));
+	}
+
+	/**
+	 * Cria a carga e as {@code disposable} linhas descartáveis de cada entidade que os
+	 * deletes vão consumir. Quando elas acabam, os deletes dão lugar a outras escritas.
+	 */
+	public static CatalogWorkload create(LoadTestApplication application, int writePercent, int disposable) {
+		CatalogWorkload workload = new CatalogWorkload(application, writePercent);
+		workload.seedDisposable(application, disposable);
+		return workload;
+	}
+
+	@Override
+	public LoadGenerator.Call next(ThreadLocalRandom random) {
+		List<Operation> group = random.nextInt(100) < writePercent ? writes : reads;
+		while (true) {
+			Operation operation = choose(group, random);
+			HttpRequest request = operation.request().apply(random);
+			if (request != null) {
+				return new LoadGenerator.Call(operation.endpoint(), request);
+			}
+		}
+	}
+
+	private static Operation choose(List<Operation> operations, ThreadLocalRandom random) {
+		int total = operations.stream().mapToInt(Operation::weight).sum();
+		int dice = random.nextInt(total);
+		for (Operation operation : operations) {
+			dice -= operation.weight();
+			if (dice < 0) {
+				return operation;
+			}
+		}
+		return operations.get(operations.size() - 1);
+	}
+
+	private void seedDisposable(LoadTestApplication application, int count) {
+		BulkInsertRepository bulkInsertRepository = application.getContext().getBean(BulkInsertRepository.class);
+
+		// Categorias e clientes sem serviços, para o delete não apagar dados usados nas leituras
+		List<Category> categories = new ArrayList<>();
+		List<Client> clients = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Category category = new Category();
+			category.setName("Descartável " + i);
+			category.setDescription("Categoria criada para os deletes do teste de carga");
+			categories.add(category);
+
+			Client client = new Client();
+			client.setFulanoHumberto("Descartavel");
+			client.setLastName("Carga");
+			client.setEmail("descartavel" + i + "@carga.com");
+			client.setPassword("Carga123456");
+			client.setCpf(CpfGenerator.cpf(DISPOSABLE_CPF_OFFSET + i));
+			client.setPhoneNumber("81912345678");
+			client.setUserType(Client.UserType.CLIENT);
+			clients.add(client);
+		}
+		bulkInsertRepository.persistAll(categories);
+		bulkInsertRepository.persistAll(clients);
+		categories.forEach(category -> disposableCategories.add(category.getId()));
+		clients.forEach(client -> disposableClients.add(client.getId()));
+
+		List<Service> services = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Service service = new Service();
+			service.setName("Serviço descartável " + i);
+			service.setDescription("Serviço criado para os deletes do teste de carga");
+			service.setPrice(50);
+			service.setCategory(categories.get(0));
+			service.setClient(clients.get(0));
+			services.add(service);
+		}
+		// Os serviços descartáveis ficam na primeira categoria e no primeiro cliente descartáveis
+		if (count > 0) {
+			bulkInsertRepository.persistAll(services);
+			services.forEach(service -> disposableServices.add(service.getId()));
+			disposableCategories.remove(categories.get(0).getId());
+			disposableClients.remove(clients.get(0).getId());
+		}
+	}
+
+	private String categoryJson() {
+		long n = sequence.incrementAndGet();
+		return "{\"name\":\"Categoria nova " + n + "\",\"description\":\"Criada pelo teste de carga\"}";
+	}
+
+	private String clientJson() {
+		long n = sequence.incrementAndGet();
+		return "{\"fulanoHumberto\":\"Cliente\",\"lastName\":\"Novo\",\"email\":\"novo" + n + "@carga.com\","
+				+ "\"password\":\"Carga123456\",\"cpf\":\"" + CpfGenerator.cpf(CREATED_CPF_OFFSET + n) + "\","
+				+ "\"phoneNumber\":\"81912345678\",\"userType\":\"CLIENT\"}";
+	}
+
+	private String serviceJson(ThreadLocalRandom random) {
+		long n = sequence.incrementAndGet();
+		return "{\"name\":\"Serviço novo " + n + "\",\"description\":\"Aula de yoga criada pelo teste de carga\","
+				+ "\"price\":" + (10 + random.nextInt(200)) + ",\"category\":{\"id\":" + pick(random, categoryIds)
+				+ "},\"client\":{\"id\":" + pick(random, clientIds) + "}}";
+	}
+
+	private static String bulk(Supplier<String> item) {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < BULK_SIZE; i++) {
+			json.append(i == 0 ? "" : ",").append(item.get());
+		}
+		return json.append(']').toString();
+	}
+
+	private static Long pick(ThreadLocalRandom random, List<Long> ids) {
+		return ids.get(random.nextInt(ids.size()));
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET().build();
+	}
+
+	private HttpRequest post(String path, String json) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT)
+				.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json)).build();
+	}
+
+	private HttpRequest put(String path, String json) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT)
+				.header("Content-Type", "application/json").PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+	}
+
+	// null quando as linhas descartáveis acabaram; next() então sorteia outra operação
+	private HttpRequest delete(String path, Queue<Long> disposable) {
+		Long id = disposable.poll();
+		if (id == null) {
+			return null;
+		}
+		return HttpRequest.newBuilder(URI.create(baseUrl + path + id)).timeout(TIMEOUT).DELETE().build();
+	}
+}
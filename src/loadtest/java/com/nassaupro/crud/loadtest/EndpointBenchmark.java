@@ -0,0 +1,87 @@
+package com.nassaupro.crud.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Envelope de vazão e latência de cada endpoint dos controllers de clientes, serviços e
+ * categorias, com leituras e escritas misturadas ({@link CatalogWorkload}). Para cada
+ * percentual de escrita a aplicação sobe do zero sobre um H2 em memória e é populada com
+ * o mesmo conjunto sintético; depois roda cada nível de concorrência.
+ * <p>
+ * Executar: {@code ./mvnw -Ploadtest verify -DskipTests -Dloadtest.main=com.nassaupro.crud.loadtest.EndpointBenchmark}.
+ * Parâmetros: {@code loadtest.write-percent} (ex.: 5,30), {@code loadtest.concurrency},
+ * {@code loadtest.warmup} e {@code loadtest.duration} (segundos), {@code loadtest.db-latency-ms},
+ * {@code loadtest.categories}, {@code loadtest.clients}, {@code loadtest.services},
+ * {@code loadtest.disposable} (linhas de cada entidade reservadas para os deletes) e
+ * {@code loadtest.output} (CSV).
+ */
+public final class EndpointBenchmark {
+
+	private EndpointBenchmark() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int[] writePercents = parseInts(System.getProperty("loadtest.write-percent", "5,30"));
+		int[] concurrencyLevels = parseInts(System.getProperty("loadtest.concurrency", "50,200"));
+		Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+		Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 20));
+		Duration dbLatency = Duration.ofMillis(Long.getLong("loadtest.db-latency-ms", 0));
+		int disposable = Integer.getInteger("loadtest.disposable", 2000);
+		Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest/endpoints.csv"));
+		LoadTestData data = LoadTestData.fromSystemProperties();
+
+		List<String> rows = new ArrayList<>();
+		rows.add("write_percent,concurrency,endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms");
+
+		LoadGenerator generator = new LoadGenerator(LoadGenerator.newHttpClient());
+		for (int writePercent : writePercents) {
+			try (LoadTestApplication application = LoadTestApplication.start("endpoints-" + writePercent, dbLatency,
+					data)) {
+				CatalogWorkload workload = CatalogWorkload.create(application, writePercent, disposable);
+
+				for (int concurrency : concurrencyLevels) {
+					LoadGenerator.Report report = generator.run(workload, concurrency, warmup, duration);
+					System.out.printf("%n%d%% de escritas, concorrência %d%n", writePercent, concurrency);
+					System.out.printf("%-32s %9s %7s %10s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+							"req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+					for (Map.Entry<String, LatencyRecorder> entry : report.byEndpoint().entrySet()) {
+						rows.add(row(writePercent, concurrency, entry.getKey(), entry.getValue(), report.measured()));
+					}
+					rows.add(row(writePercent, concurrency, "ALL", report.total(), report.measured()));
+				}
+			}
+		}
+
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+			rows.forEach(writer::println);
+		}
+		System.out.println("Resultados gravados em " + output.toAbsolutePath());
+	}
+
+	// Imprime a linha na tabela do console e devolve a mesma linha em CSV
+	private static String row(int writePercent, int concurrency, String endpoint, LatencyRecorder recorder,
+			Duration measured) {
+		double throughput = recorder.getCount() / (measured.toNanos() / 1_000_000_000.0);
+		System.out.printf(Locale.ROOT, "%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint,
+				recorder.getCount(), recorder.getErrors(), throughput, recorder.percentileMillis(50),
+				recorder.percentileMillis(95), recorder.percentileMillis(99), recorder.percentileMillis(100));
+		return String.format(Locale.ROOT, "%d,%d,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f", writePercent, concurrency,
+				endpoint, recorder.getCount(), recorder.getErrors(), throughput, recorder.percentileMillis(50),
+				recorder.percentileMillis(95), recorder.percentileMillis(99), recorder.percentileMillis(100));
+	}
+
+	private static int[] parseInts(String values) {
+		return Arrays.stream(values.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+	}
+}
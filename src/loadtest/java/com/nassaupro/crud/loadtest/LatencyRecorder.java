@@ -0,0 +1,53 @@
+package com.nassaupro.crud.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latências (em nanossegundos) e erros de um endpoint. Cada worker usa os seus
+ * próprios recorders, sem sincronização, e eles são somados no fim com {@link #merge}.
+ */
+public final class LatencyRecorder {
+
+	private long[] latencies = new long[1024];
+
+	private int count;
+
+	private long errors;
+
+	public void record(long nanos) {
+		if (count == latencies.length) {
+			latencies = Arrays.copyOf(latencies, count * 2);
+		}
+		latencies[count++] = nanos;
+	}
+
+	public void recordError() {
+		errors++;
+	}
+
+	public void merge(LatencyRecorder other) {
+		for (int i = 0; i < other.count; i++) {
+			record(other.latencies[i]);
+		}
+		errors += other.errors;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getErrors() {
+		return errors;
+	}
+
+	// Percentil pelo método nearest-rank, em milissegundos
+	public double percentileMillis(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long[] sorted = Arrays.copyOf(latencies, count);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile / 100.0 * count);
+		return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+	}
+}
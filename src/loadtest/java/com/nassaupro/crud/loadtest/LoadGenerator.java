@@ -0,0 +1,105 @@
+package com.nassaupro.crud.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Carga em malha fechada: {@code concurrency} usuários virtuais, cada um mandando a
+ * próxima requisição assim que recebe a resposta da anterior. Requisições feitas durante
+ * o aquecimento não entram nas estatísticas.
+ */
+public final class LoadGenerator {
+
+	// Uma requisição da carga, identificada pelo endpoint nas estatísticas
+	public record Call(String endpoint, HttpRequest request) {
+	}
+
+	@FunctionalInterface
+	public interface Workload {
+		Call next(ThreadLocalRandom random);
+	}
+
+	// Resultado de uma rodada: estatísticas por endpoint e o tempo medido
+	public record Report(Map<String, LatencyRecorder> byEndpoint, LatencyRecorder total, Duration measured) {
+
+		public double throughput() {
+			return total.getCount() / (measured.toNanos() / 1_000_000_000.0);
+		}
+	}
+
+	private final HttpClient httpClient;
+
+	public LoadGenerator(HttpClient httpClient) {
+		this.httpClient = httpClient;
+	}
+
+	public static HttpClient newHttpClient() {
+		return HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.executor(Executors.newVirtualThreadPerTaskExecutor()).connectTimeout(Duration.ofSeconds(10)).build();
+	}
+
+	public Report run(Workload workload, int concurrency, Duration warmup, Duration duration) {
+		long start = System.nanoTime();
+		long measureFrom = start + warmup.toNanos();
+		long measureUntil = measureFrom + duration.toNanos();
+
+		List<Map<String, LatencyRecorder>> perWorker = new ArrayList<>(concurrency);
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				Map<String, LatencyRecorder> recorders = new HashMap<>();
+				perWorker.add(recorders);
+				workers.submit(() -> loop(workload, recorders, measureFrom, measureUntil));
+			}
+		}
+
+		Map<String, LatencyRecorder> byEndpoint = new TreeMap<>();
+		LatencyRecorder total = new LatencyRecorder();
+		for (Map<String, LatencyRecorder> recorders : perWorker) {
+			recorders.forEach((endpoint, recorder) -> {
+				byEndpoint.computeIfAbsent(endpoint, key -> new LatencyRecorder()).merge(recorder);
+				total.merge(recorder);
+			});
+		}
+		return new Report(byEndpoint, total, duration);
+	}
+
+	private void loop(Workload workload, Map<String, LatencyRecorder> recorders, long measureFrom,
+			long measureUntil) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (System.nanoTime() < measureUntil) {
+			Call call = workload.next(random);
+			long sent = System.nanoTime();
+			boolean ok;
+			try {
+				HttpResponse<Void> response = httpClient.send(call.request(), HttpResponse.BodyHandlers.discarding());
+				ok = response.statusCode() < 400;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				ok = false;
+			}
+			long received = System.nanoTime();
+
+			// Só conta requisições enviadas e respondidas dentro da janela de medição
+			if (sent >= measureFrom && received <= measureUntil) {
+				LatencyRecorder recorder = recorders.computeIfAbsent(call.endpoint(), key -> new LatencyRecorder());
+				if (ok) {
+					recorder.record(received - sent);
+				} else {
+					recorder.recordError();
+				}
+			}
+		}
+	}
+}
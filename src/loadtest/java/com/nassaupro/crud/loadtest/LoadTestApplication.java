@@ -0,0 +1,126 @@
+package com.nassaupro.crud.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.nassaupro.crud.CpfGenerator;
+import com.nassaupro.crud.NassauProApplication;
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.model.Service;
+import com.nassaupro.crud.repository.BulkInsertRepository;
+
+/**
+ * Sobe a aplicação completa (Tomcat numa porta livre) contra um H2 em memória próprio,
+ * popula categorias, clientes e serviços e só então liga a latência do {@link SlowDatabase}.
+ */
+public final class LoadTestApplication implements AutoCloseable {
+
+	private final ConfigurableApplicationContext context;
+
+	private final String baseUrl;
+
+	private final List<Long> categoryIds = new ArrayList<>();
+
+	private final List<Long> clientIds = new ArrayList<>();
+
+	private final List<Long> serviceIds = new ArrayList<>();
+
+	private LoadTestApplication(ConfigurableApplicationContext context) {
+		this.context = context;
+		this.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+	}
+
+	public static LoadTestApplication start(String name, Duration dbLatency, LoadTestData data, String... properties) {
+		SlowDatabase slowDatabase = new SlowDatabase(dbLatency);
+
+		String[] defaults = { "--server.port=0", "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+				"--spring.datasource.driver-class-name=org.h2.Driver", "--spring.datasource.username=sa",
+				"--spring.datasource.password=", "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create-drop", "--spring.jpa.show-sql=false",
+				"--spring.flyway.enabled=false", "--logging.level.root=WARN" };
+		String[] args = Stream.concat(Stream.of(defaults), Stream.of(properties)).toArray(String[]::new);
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(NassauProApplication.class)
+				.initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(slowDatabase))
+				.run(args);
+
+		LoadTestApplication application = new LoadTestApplication(context);
+		application.seed(data);
+		slowDatabase.enable();
+		return application;
+	}
+
+	public String getBaseUrl() {
+		return baseUrl;
+	}
+
+	public ConfigurableApplicationContext getContext() {
+		return context;
+	}
+
+	public List<Long> getCategoryIds() {
+		return categoryIds;
+	}
+
+	public List<Long> getClientIds() {
+		return clientIds;
+	}
+
+	public List<Long> getServiceIds() {
+		return serviceIds;
+	}
+
+	@Override
+	public void close() {
+		context.close();
+	}
+
+	private void seed(LoadTestData data) {
+		BulkInsertRepository bulkInsertRepository = context.getBean(BulkInsertRepository.class);
+
+		List<Category> categories = new ArrayList<>();
+		for (int i = 0; i < data.categories(); i++) {
+			Category category = new Category();
+			category.setName("Categoria " + i);
+			category.setDescription("Categoria de carga número " + i);
+			categories.add(category);
+		}
+		bulkInsertRepository.persistAll(categories);
+		categories.forEach(category -> categoryIds.add(category.getId()));
+
+		List<Client> clients = new ArrayList<>();
+		for (int i = 0; i < data.clients(); i++) {
+			Client client = new Client();
+			client.setFulanoHumberto("Cliente");
+			client.setLastName("Carga");
+			client.setEmail("cliente" + i + "@carga.com");
+			client.setPassword("Carga123456");
+			client.setCpf(CpfGenerator.cpf(i));
+			client.setPhoneNumber("81912345678");
+			client.setUserType(Client.UserType.CLIENT);
+			clients.add(client);
+		}
+		bulkInsertRepository.persistAll(clients);
+		clients.forEach(client -> clientIds.add(client.getId()));
+
+		List<Service> services = new ArrayList<>();
+		for (int i = 0; i < data.services(); i++) {
+			Service service = new Service();
+			service.setName("Serviço de carga " + i);
+			service.setDescription("Personal trainer, yoga e massagem para o teste de carga " + i);
+			service.setPrice(10 + (i % 200));
+			service.setCategory(categories.get(i % categories.size()));
+			service.setClient(clients.get(i % clients.size()));
+			services.add(service);
+		}
+		bulkInsertRepository.persistAll(services);
+		services.forEach(service -> serviceIds.add(service.getId()));
+	}
+}
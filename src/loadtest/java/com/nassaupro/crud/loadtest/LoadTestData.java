@@ -0,0 +1,10 @@
+package com.nassaupro.crud.loadtest;
+
+// Quantidade de linhas criadas antes das medições
+public record LoadTestData(int categories, int clients, int services) {
+
+	public static LoadTestData fromSystemProperties() {
+		return new LoadTestData(Integer.getInteger("loadtest.categories", 20),
+				Integer.getInteger("loadtest.clients", 500), Integer.getInteger("loadtest.services", 5000));
+	}
+}
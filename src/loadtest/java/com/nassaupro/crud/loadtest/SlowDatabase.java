@@ -0,0 +1,63 @@
+package com.nassaupro.crud.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Simula um banco lento: cada comando SQL espera {@code latency} antes de executar,
+ * segurando a conexão como uma consulta lenta de verdade. Fica desligado durante a
+ * carga inicial de dados e é ligado com {@link #enable()} antes das medições.
+ */
+public final class SlowDatabase implements BeanPostProcessor, QueryExecutionListener {
+
+	private final Duration latency;
+
+	private volatile boolean enabled;
+
+	public SlowDatabase(Duration latency) {
+		this.latency = latency;
+	}
+
+	public void enable() {
+		enabled = true;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		// O DataSource pode já ter sido envolvido pelo SqlExecutionLogger
+		if (bean instanceof ProxyDataSource proxy) {
+			proxy.getProxyConfig().getQueryListener().addListener(this);
+			return bean;
+		}
+		if (bean instanceof DataSource dataSource) {
+			return ProxyDataSourceBuilder.create(beanName, dataSource).listener(this).build();
+		}
+		return bean;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		if (!enabled || latency.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(latency);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+}
@@ -0,0 +1,192 @@
+package com.nassaupro.crud.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.nassaupro.reactive.NassauProReactiveApplication;
+
+/**
+ * Muitos clientes lentos baixando {@code /services/export} ao mesmo tempo, primeiro na API
+ * MVC (Tomcat com threads de plataforma) e depois na API reativa, as duas sobre o mesmo H2.
+ * Cada leitor usa um buffer de recepção pequeno e lê um bloco por intervalo, então a
+ * resposta não cabe nos buffers do kernel e o servidor precisa esperar o cliente. Enquanto
+ * isso uma sonda mede se {@code /categories/list} continua respondendo.
+ * <p>
+ * Executar: {@code ./mvnw -Ploadtest verify -DskipTests -Dloadtest.main=com.nassaupro.crud.loadtest.SlowReaderBenchmark}.
+ * Parâmetros: {@code loadtest.slow-readers}, {@code loadtest.hold} (segundos),
+ * {@code loadtest.read-interval-ms}, {@code loadtest.tomcat-threads}, {@code loadtest.services}
+ * e {@code loadtest.output} (CSV).
+ * <p>
+ * Os pools de conexão ficam grandes de propósito: a exportação segura uma conexão até o fim
+ * do stream nos dois modelos, e aqui o que se quer comparar é o custo de thread por conexão.
+ */
+public final class SlowReaderBenchmark {
+
+	private static final int RECEIVE_BUFFER = 4 * 1024;
+
+	private static final int READ_CHUNK = 1024;
+
+	private static final Duration FIRST_BYTE_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+
+	private SlowReaderBenchmark() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int readers = Integer.getInteger("loadtest.slow-readers", 1000);
+		Duration hold = Duration.ofSeconds(Long.getLong("loadtest.hold", 20));
+		Duration readInterval = Duration.ofMillis(Long.getLong("loadtest.read-interval-ms", 100));
+		int tomcatThreads = Integer.getInteger("loadtest.tomcat-threads", 200);
+		Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest/slow-readers.csv"));
+		LoadTestData data = new LoadTestData(Integer.getInteger("loadtest.categories", 20),
+				Integer.getInteger("loadtest.clients", 500), Integer.getInteger("loadtest.services", 2000));
+
+		List<String> rows = new ArrayList<>();
+		rows.add("api,readers,served,first_byte_p50_ms,first_byte_p99_ms,probe_ok,probe_errors,probe_p99_ms,extra_platform_threads");
+		System.out.printf("%-9s %8s %7s %10s %10s %9s %9s %10s %9s%n", "api", "readers", "served", "ttfb p50",
+				"ttfb p99", "probe ok", "probe err", "probe p99", "threads");
+
+		try (LoadTestApplication mvc = LoadTestApplication.start("slow-readers", Duration.ZERO, data,
+				"--server.tomcat.threads.max=" + tomcatThreads,
+				"--spring.datasource.hikari.maximum-pool-size=" + (readers + 10))) {
+			rows.add(measure("mvc", mvc.getBaseUrl(), readers, hold, readInterval));
+
+			// A API reativa lê o mesmo banco em memória que a aplicação MVC acabou de popular
+			try (ConfigurableApplicationContext reactive = new SpringApplicationBuilder(
+					NassauProReactiveApplication.class).properties("spring.config.name=reactive")
+					.run("--server.port=0", "--spring.r2dbc.url=r2dbc:h2:mem:///slow-readers;DB_CLOSE_DELAY=-1",
+							"--spring.r2dbc.username=sa", "--spring.r2dbc.password=",
+							"--spring.r2dbc.pool.max-size=" + (readers + 10), "--spring.sql.init.mode=never",
+							"--logging.level.root=WARN")) {
+				String baseUrl = "http://localhost:"
+						+ ((WebServerApplicationContext) reactive).getWebServer().getPort();
+				rows.add(measure("reactive", baseUrl, readers, hold, readInterval));
+			}
+		}
+
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+			rows.forEach(writer::println);
+		}
+		System.out.println("Resultados gravados em " + output.toAbsolutePath());
+	}
+
+	private static String measure(String api, String baseUrl, int readers, Duration hold, Duration readInterval) {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		// As duas APIs rodam na mesma JVM; conta só as threads criadas durante a medição
+		int threadsBefore = threads.getThreadCount();
+		threads.resetPeakThreadCount();
+
+		URI uri = URI.create(baseUrl);
+		long deadline = System.nanoTime() + hold.toNanos();
+		long[] firstBytes = new long[readers];
+		LatencyRecorder probes = new LatencyRecorder();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < readers; i++) {
+				int reader = i;
+				executor.submit(() -> firstBytes[reader] = slowRead(uri, deadline, readInterval));
+			}
+			executor.submit(() -> probe(baseUrl + "/categories/list?size=20", deadline, probes));
+		}
+
+		LatencyRecorder served = new LatencyRecorder();
+		for (long firstByte : firstBytes) {
+			if (firstByte >= 0) {
+				served.record(firstByte);
+			}
+		}
+		int extraThreads = threads.getPeakThreadCount() - threadsBefore;
+
+		System.out.printf(Locale.ROOT, "%-9s %8d %7d %10.2f %10.2f %9d %9d %10.2f %9d%n", api, readers,
+				served.getCount(), served.percentileMillis(50), served.percentileMillis(99), probes.getCount(),
+				probes.getErrors(), probes.percentileMillis(99), extraThreads);
+		return String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%d,%d,%.2f,%d", api, readers, served.getCount(),
+				served.percentileMillis(50), served.percentileMillis(99), probes.getCount(), probes.getErrors(),
+				probes.percentileMillis(99), extraThreads);
+	}
+
+	// Devolve o tempo até o primeiro byte em nanossegundos, ou -1 se a resposta não começou a tempo
+	private static long slowRead(URI uri, long deadline, Duration readInterval) {
+		try (Socket socket = new Socket()) {
+			socket.setReceiveBufferSize(RECEIVE_BUFFER);
+			socket.connect(new InetSocketAddress(uri.getHost(), uri.getPort()), 10_000);
+			socket.setSoTimeout((int) FIRST_BYTE_TIMEOUT.toMillis());
+
+			long sent = System.nanoTime();
+			OutputStream request = socket.getOutputStream();
+			request.write(("GET /services/export HTTP/1.1\r\nHost: " + uri.getHost()
+					+ "\r\nAccept: application/x-ndjson\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+			request.flush();
+
+			InputStream response = socket.getInputStream();
+			byte[] buffer = new byte[READ_CHUNK];
+			if (response.read(buffer) < 0) {
+				return -1;
+			}
+			long firstByte = System.nanoTime() - sent;
+
+			// Continua lendo devagar até o fim da janela, segurando a conexão aberta
+			while (System.nanoTime() < deadline) {
+				Thread.sleep(readInterval);
+				if (response.read(buffer) < 0) {
+					break;
+				}
+			}
+			return firstByte;
+		} catch (IOException e) {
+			return -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+	}
+
+	// Requisições normais, uma de cada vez, depois que os leitores lentos já ocuparam o servidor
+	private static void probe(String url, long deadline, LatencyRecorder probes) {
+		HttpClient httpClient = LoadGenerator.newHttpClient();
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(PROBE_TIMEOUT).GET().build();
+		try {
+			Thread.sleep(FIRST_BYTE_TIMEOUT.dividedBy(2));
+			while (System.nanoTime() + PROBE_TIMEOUT.toNanos() < deadline) {
+				long sent = System.nanoTime();
+				try {
+					HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+					if (response.statusCode() < 400) {
+						probes.record(System.nanoTime() - sent);
+					} else {
+						probes.recordError();
+					}
+				} catch (IOException e) {
+					probes.recordError();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.nassaupro.crud.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compara o Tomcat com threads de plataforma (pool fixo de {@code server.tomcat.threads.max})
+ * contra virtual threads ({@code spring.threads.virtual.enabled=true}) na leitura do catálogo
+ * com um banco lento, em vários níveis de concorrência. Para cada modo a aplicação sobe do
+ * zero, com os mesmos dados e a mesma latência por comando SQL.
+ * <p>
+ * Executar: {@code ./mvnw -Ploadtest verify -DskipTests}. Parâmetros (system properties):
+ * {@code loadtest.concurrency} (ex.: 50,200,800), {@code loadtest.warmup} e
+ * {@code loadtest.duration} (segundos), {@code loadtest.db-latency-ms},
+ * {@code loadtest.pool-size} (Hikari), {@code loadtest.tomcat-threads} e
+ * {@code loadtest.output} (CSV).
+ */
+public final class ThreadModeBenchmark {
+
+	private ThreadModeBenchmark() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int[] concurrencyLevels = Arrays.stream(System.getProperty("loadtest.concurrency", "50,200,800").split(","))
+				.map(String::trim).mapToInt(Integer::parseInt).toArray();
+		Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+		Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 20));
+		Duration dbLatency = Duration.ofMillis(Long.getLong("loadtest.db-latency-ms", 20));
+		int poolSize = Integer.getInteger("loadtest.pool-size", 400);
+		int tomcatThreads = Integer.getInteger("loadtest.tomcat-threads", 200);
+		Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest/thread-modes.csv"));
+		LoadTestData data = LoadTestData.fromSystemProperties();
+
+		List<String> rows = new ArrayList<>();
+		rows.add("mode,concurrency,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms");
+		System.out.printf("%-9s %11s %9s %7s %12s %9s %9s %9s%n", "mode", "concurrency", "requests", "errors",
+				"req/s", "p50 ms", "p99 ms", "max ms");
+
+		HttpClient httpClient = LoadGenerator.newHttpClient();
+		LoadGenerator generator = new LoadGenerator(httpClient);
+		for (String mode : List.of("platform", "virtual")) {
+			try (LoadTestApplication application = LoadTestApplication.start("thread-mode-" + mode, dbLatency, data,
+					"--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+					"--server.tomcat.threads.max=" + tomcatThreads,
+					"--spring.datasource.hikari.maximum-pool-size=" + poolSize)) {
+
+				LoadGenerator.Workload workload = catalogReads(application);
+				for (int concurrency : concurrencyLevels) {
+					LoadGenerator.Report report = generator.run(workload, concurrency, warmup, duration);
+					LatencyRecorder total = report.total();
+					String row = String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f", mode, concurrency,
+							total.getCount(), total.getErrors(), report.throughput(), total.percentileMillis(50),
+							total.percentileMillis(99), total.percentileMillis(100));
+					rows.add(row);
+					System.out.printf(Locale.ROOT, "%-9s %11d %9d %7d %12.1f %9.2f %9.2f %9.2f%n", mode, concurrency,
+							total.getCount(), total.getErrors(), report.throughput(), total.percentileMillis(50),
+							total.percentileMillis(99), total.percentileMillis(100));
+				}
+			}
+		}
+
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+			rows.forEach(writer::println);
+		}
+		System.out.println("Resultados gravados em " + output.toAbsolutePath());
+	}
+
+	// Leituras que os frontends fazem o tempo todo: listas paginadas e cliente por ID
+	private static LoadGenerator.Workload catalogReads(LoadTestApplication application) {
+		String baseUrl = application.getBaseUrl();
+		List<Long> clientIds = application.getClientIds();
+		HttpRequest services = get(baseUrl + "/services/list?size=20");
+		HttpRequest categories = get(baseUrl + "/categories/list?size=20");
+
+		return random -> {
+			int dice = random.nextInt(10);
+			if (dice < 4) {
+				return new LoadGenerator.Call("GET /services/list", services);
+			}
+			if (dice < 7) {
+				return new LoadGenerator.Call("GET /categories/list", categories);
+			}
+			Long id = clientIds.get(random.nextInt(clientIds.size()));
+			return new LoadGenerator.Call("GET /clients/list/{id}", get(baseUrl + "/clients/list/" + id));
+		};
+	}
+
+	static HttpRequest get(String url) {
+		return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+	}
+}
@@ -0,0 +1,27 @@
+#!/bin/sh
+# Desmonta o fat jar do Spring Boot em <destino>/nassaupro.jar (classes da aplicação e o
+# Main-Class) e <destino>/lib (dependências, listadas no Class-Path do manifesto na ordem
+# do BOOT-INF/classpath.idx). Uso: extract.sh <fat jar> <destino>
+set -e
+
+FAT_JAR=$(realpath "$1")
+TARGET=$2
+WORK=$(mktemp -d)
+
+cd "$WORK"
+jar xf "$FAT_JAR"
+mkdir -p "$TARGET/lib"
+
+START_CLASS=$(sed -n 's/^Start-Class: *//p' META-INF/MANIFEST.MF | tr -d '\r')
+{
+	echo "Main-Class: $START_CLASS"
+	echo "Class-Path: "
+	# Linha de continuação: o primeiro espaço é descartado, o segundo separa os jars
+	sed -n 's/^- "BOOT-INF\/lib\/\(.*\)"$/\1/p' BOOT-INF/classpath.idx | while read -r lib; do
+		cp "BOOT-INF/lib/$lib" "$TARGET/lib/"
+		echo "  lib/$lib"
+	done
+} > manifest.txt
+
+jar --create --file "$TARGET/nassaupro.jar" --manifest manifest.txt -C BOOT-INF/classes .
+rm -rf "$WORK"
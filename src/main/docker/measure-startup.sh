@@ -0,0 +1,72 @@
+#!/bin/sh
+# Tempo até a primeira resposta, antes (fat jar na JDK) e depois (AOT + AppCDS na JRE).
+# Gera as duas imagens, sobe um PostgreSQL num container e mede, para cada imagem, do
+# "docker run" até o primeiro GET /categories/list respondido; também guarda o
+# "Started ... in X seconds" do log. A primeira subida de cada imagem aplica as migrações
+# e aquece o cache do Docker, por isso não entra no resultado.
+# Requer docker, curl e o date do GNU (%N). Uso, na raiz do projeto:
+#   src/main/docker/measure-startup.sh [repetições]   (padrão 5; resultado em target/startup/startup.csv)
+set -e
+
+RUNS=${1:-5}
+OUTPUT=target/startup/startup.csv
+NETWORK=nassaupro-startup
+DATABASE=nassaupro-startup-db
+APP=nassaupro-startup-app
+PORT=18080
+
+./mvnw -q clean package -DskipTests
+docker build -q --target baseline -t nassaupro:baseline . > /dev/null
+./mvnw -q -Pprod clean package -DskipTests
+docker build -q -t nassaupro:prod . > /dev/null
+
+cleanup() {
+	docker rm -f "$APP" "$DATABASE" > /dev/null 2>&1 || true
+	docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+cleanup
+docker network create "$NETWORK" > /dev/null
+docker run -d --name "$DATABASE" --network "$NETWORK" -e POSTGRES_DB=nassaupro -e POSTGRES_PASSWORD=nassaupro \
+	postgres:16-alpine > /dev/null
+until docker exec "$DATABASE" pg_isready -q -U postgres -d nassaupro; do
+	sleep 1
+done
+
+# Imprime "ms até a primeira resposta,segundos do Started ... in"
+measure() {
+	start=$(date +%s%N)
+	docker run -d --name "$APP" --network "$NETWORK" -p "$PORT:8080" \
+		-e DATABASE_URL="jdbc:postgresql://$DATABASE:5432/nassaupro" \
+		-e DATABASE_USERNAME=postgres -e DATABASE_PASSWORD=nassaupro "$1" > /dev/null
+	while true; do
+		status=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/categories/list" || true)
+		case "$status" in
+			2* | 3* | 4*) break ;;
+		esac
+		if [ "$(docker inspect -f '{{.State.Running}}' "$APP")" != "true" ]; then
+			docker logs "$APP" >&2
+			exit 1
+		fi
+		sleep 0.02
+	done
+	end=$(date +%s%N)
+	started=$(docker logs "$APP" 2>&1 | sed -n 's/.*Started NassauProApplication in \([0-9.]*\) seconds.*/\1/p')
+	docker rm -f "$APP" > /dev/null
+	echo "$(((end - start) / 1000000)),$started"
+}
+
+mkdir -p "$(dirname "$OUTPUT")"
+echo "image,run,first_request_ms,started_in_s" > "$OUTPUT"
+for image in nassaupro:baseline nassaupro:prod; do
+	measure "$image" > /dev/null
+done
+# Alterna as imagens a cada rodada para que variações da máquina afetem as duas igualmente
+run=1
+while [ "$run" -le "$RUNS" ]; do
+	for image in nassaupro:baseline nassaupro:prod; do
+		echo "$image,$run,$(measure "$image")" | tee -a "$OUTPUT"
+	done
+	run=$((run + 1))
+done
+echo "Resultados gravados em $OUTPUT"
@@ -0,0 +1,43 @@
+#!/bin/sh
+# Execução de treino do AppCDS, no próprio estágio final da imagem (o arquivo só vale para
+# a mesma JVM e o mesmo classpath). Sobe a aplicação com o profile "training" (H2 em
+# memória), faz as requisições mais comuns e encerra; na saída a JVM grava nassaupro.jsa.
+set -e
+
+java -XX:ArchiveClassesAtExit=nassaupro.jsa -Dspring.aot.enabled=true -jar nassaupro.jar \
+	--spring.profiles.active=training &
+PID=$!
+BASE_URL=http://localhost:8080
+
+attempts=0
+until wget -q -O /dev/null "$BASE_URL/actuator/health"; do
+	attempts=$((attempts + 1))
+	if [ "$attempts" -gt 120 ]; then
+		kill "$PID"
+		echo "A aplicação não subiu na execução de treino" >&2
+		exit 1
+	fi
+	sleep 1
+done
+
+# Escritas e leituras de cada controller; as respostas não importam, só as classes carregadas
+post() {
+	wget -q -O /dev/null --header 'Content-Type: application/json' --post-data "$2" "$BASE_URL$1" || true
+}
+get() {
+	wget -q -O /dev/null "$BASE_URL$1" || true
+}
+post /categories/create '{"name":"Fitness","description":"Categoria de serviços de condicionamento físico"}'
+post /clients/create '{"fulanoHumberto":"Melo","lastName":"Meloso","email":"melo.meloso@gmail.com","password":"Melo123456","cpf":"69475441069","phoneNumber":"81912345678","userType":"CLIENT"}'
+post /services/create '{"name":"Serviço de Personal Trainer","description":"Treino","price":25.0,"category":{"id":1},"client":{"id":1}}'
+get /categories/list
+get /clients/list
+get /clients/list/1
+get /services/list
+get /services/list/1
+get /services/export
+get /actuator/prometheus
+
+kill -TERM "$PID"
+wait "$PID" || true
+test -s nassaupro.jsa
@@ -0,0 +1,82 @@
+package com.nassaupro.crud.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de requisições simultâneas que se ajusta pela latência observada (AIMD): cada
+ * requisição abaixo de {@code latencyThreshold} soma {@code 1/limite} (cerca de +1 a cada
+ * "rodada" completa), e uma acima multiplica o limite por {@code backoffRatio}. Só as
+ * requisições que entraram depois da última redução podem reduzir de novo, então uma
+ * leva de respostas lentas conta como uma redução só.
+ * <p>
+ * O limite só cresce quando ao menos metade dele está em uso; sem isso ele subiria até o
+ * máximo num período calmo e não protegeria nada no próximo pico.
+ */
+public final class AimdLimiter {
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final long latencyThresholdNanos;
+
+	private final double backoffRatio;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private volatile double limit;
+
+	// Instante (System.nanoTime) da última redução; protegido por this
+	private long lastDecrease = Long.MIN_VALUE;
+
+	public AimdLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+		if (minLimit < 1 || maxLimit < minLimit) {
+			throw new IllegalArgumentException("Limites inválidos: mínimo " + minLimit + ", máximo " + maxLimit);
+		}
+		if (!(backoffRatio > 0 && backoffRatio < 1)) {
+			throw new IllegalArgumentException("backoffRatio deve estar entre 0 e 1");
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.backoffRatio = backoffRatio;
+		this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+	}
+
+	// Devolve o instante de entrada para o release, ou -1 se o limite já foi atingido
+	public long tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= (int) limit) {
+				return -1;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return System.nanoTime();
+			}
+		}
+	}
+
+	public void release(long acquiredAt) {
+		long now = System.nanoTime();
+		int inFlightBefore = inFlight.getAndDecrement();
+		synchronized (this) {
+			if (now - acquiredAt > latencyThresholdNanos) {
+				if (acquiredAt >= lastDecrease) {
+					limit = Math.max(minLimit, limit * backoffRatio);
+					lastDecrease = now;
+				}
+			} else if (inFlightBefore * 2 >= limit) {
+				limit = Math.min(maxLimit, limit + 1 / limit);
+			}
+		}
+	}
+
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+}
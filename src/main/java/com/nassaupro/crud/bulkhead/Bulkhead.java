@@ -0,0 +1,25 @@
+package com.nassaupro.crud.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coloca um controller (ou só um método dele) sob um bulkhead de
+ * {@code nassaupro.bulkhead.classes}; a anotação do método vale sobre a da classe.
+ * Endpoints sem a anotação não têm limite.
+ */
+@Documented
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+	String HEAVY = "heavy";
+
+	String LIGHT = "light";
+
+	// Nome da classe de endpoints em nassaupro.bulkhead.classes
+	String value();
+}
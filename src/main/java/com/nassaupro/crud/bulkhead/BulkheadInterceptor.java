@@ -0,0 +1,93 @@
+package com.nassaupro.crud.bulkhead;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Segura uma vaga do bulkhead do endpoint ({@link Bulkhead}) do preHandle até o fim da
+ * resposta. Sem vaga, responde 503 com Retry-After na hora, antes de qualquer acesso ao
+ * banco: a thread do Tomcat volta logo ao pool e a classe saturada não consome as
+ * conexões do Hikari que as outras precisam.
+ */
+@Component
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+	private static final String PERMIT = BulkheadInterceptor.class.getName() + ".PERMIT";
+
+	@Autowired
+	private Bulkheads bulkheads;
+
+	@Autowired
+	private BulkheadProperties properties;
+
+	// Nome do bulkhead por método de controller; vazio para os sem anotação
+	private final Map<Method, Optional<String>> names = new ConcurrentHashMap<>();
+
+	private record Permit(AimdLimiter limiter, long acquiredAt) {
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+			throws IOException {
+		if (!(handler instanceof HandlerMethod handlerMethod)) {
+			return true;
+		}
+		Optional<String> name = names.computeIfAbsent(handlerMethod.getMethod(), method -> bulkheadOf(handlerMethod));
+		if (name.isEmpty()) {
+			return true;
+		}
+
+		AimdLimiter limiter = bulkheads.get(name.get());
+		long acquiredAt = limiter.tryAcquire();
+		if (acquiredAt < 0) {
+			bulkheads.rejected(name.get());
+			reject(response);
+			return false;
+		}
+		request.setAttribute(PERMIT, new Permit(limiter, acquiredAt));
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		if (request.getAttribute(PERMIT) instanceof Permit permit) {
+			request.removeAttribute(PERMIT);
+			permit.limiter().release(permit.acquiredAt());
+		}
+	}
+
+	private static Optional<String> bulkheadOf(HandlerMethod handlerMethod) {
+		Bulkhead bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+		if (bulkhead == null) {
+			bulkhead = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Bulkhead.class);
+		}
+		return Optional.ofNullable(bulkhead).map(Bulkhead::value);
+	}
+
+	// 503 Service Unavailable
+	private void reject(HttpServletResponse response) throws IOException {
+		long seconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+		response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+		response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.getWriter().write("Servidor ocupado, tente novamente em " + seconds + "s");
+	}
+}
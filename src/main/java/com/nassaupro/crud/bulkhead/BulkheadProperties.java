@@ -0,0 +1,40 @@
+package com.nassaupro.crud.bulkhead;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "nassaupro.bulkhead")
+public class BulkheadProperties {
+
+	// Desligado, nenhum endpoint é limitado (a anotação @Bulkhead é ignorada)
+	private boolean enabled = true;
+
+	// Valor do Retry-After das respostas 503
+	private Duration retryAfter = Duration.ofSeconds(1);
+
+	// Classes de endpoints, pelo nome usado em @Bulkhead
+	private Map<String, Limit> classes = new LinkedHashMap<>();
+
+	@Data
+	public static class Limit {
+
+		private int initialLimit = 20;
+
+		private int minLimit = 1;
+
+		private int maxLimit = 200;
+
+		// Respostas mais lentas que isso reduzem o limite; as mais rápidas o aumentam
+		private Duration latencyThreshold = Duration.ofMillis(500);
+
+		private double backoffRatio = 0.9;
+	}
+}
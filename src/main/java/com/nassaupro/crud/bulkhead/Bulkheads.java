@@ -0,0 +1,57 @@
+package com.nassaupro.crud.bulkhead;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Um {@link AimdLimiter} por classe de endpoints de {@code nassaupro.bulkhead.classes},
+ * com as métricas {@code nassaupro.bulkhead.*} (tag {@code bulkhead}).
+ */
+@Component
+public class Bulkheads {
+
+	@Autowired
+	private BulkheadProperties properties;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final Map<String, AimdLimiter> limiters = new HashMap<>();
+
+	private final Map<String, Counter> rejections = new HashMap<>();
+
+	@PostConstruct
+	void createLimiters() {
+		properties.getClasses().forEach((name, config) -> {
+			AimdLimiter limiter = new AimdLimiter(config.getInitialLimit(), config.getMinLimit(),
+					config.getMaxLimit(), config.getLatencyThreshold(), config.getBackoffRatio());
+			limiters.put(name, limiter);
+			rejections.put(name, Counter.builder("nassaupro.bulkhead.rejections").tag("bulkhead", name)
+					.description("Requisições recusadas com 503 por limite atingido").register(meterRegistry));
+			Gauge.builder("nassaupro.bulkhead.limit", limiter, AimdLimiter::getLimit).tag("bulkhead", name)
+					.description("Limite atual de requisições simultâneas").register(meterRegistry);
+			Gauge.builder("nassaupro.bulkhead.in.flight", limiter, AimdLimiter::getInFlight).tag("bulkhead", name)
+					.description("Requisições em andamento").register(meterRegistry);
+		});
+	}
+
+	public AimdLimiter get(String name) {
+		AimdLimiter limiter = limiters.get(name);
+		if (limiter == null) {
+			throw new IllegalStateException("Bulkhead sem configuração em nassaupro.bulkhead.classes: " + name);
+		}
+		return limiter;
+	}
+
+	public void rejected(String name) {
+		rejections.get(name).increment();
+	}
+}
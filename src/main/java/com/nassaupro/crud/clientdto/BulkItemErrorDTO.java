@@ -0,0 +1,20 @@
+package com.nassaupro.crud.clientdto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkItemErrorDTO {
+	private int index;
+	private List<String> errors;
+
+	public static List<BulkItemErrorDTO> from(Map<Integer, List<String>> errorsByIndex) {
+		return errorsByIndex.entrySet().stream().map(entry -> new BulkItemErrorDTO(entry.getKey(), entry.getValue()))
+				.collect(Collectors.toList());
+	}
+}
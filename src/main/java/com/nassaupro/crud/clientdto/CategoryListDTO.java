@@ -0,0 +1,14 @@
+package com.nassaupro.crud.clientdto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryListDTO {
+	private Long id;
+	private String name;
+	private String description;
+}
@@ -1,8 +1,12 @@
 package com.nassaupro.crud.clientdto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ClientListDTO {
 	private Long id;
 	private String fulanoHumberto;
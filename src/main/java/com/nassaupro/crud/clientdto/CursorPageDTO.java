@@ -0,0 +1,23 @@
+package com.nassaupro.crud.clientdto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+	private List<T> items;
+	private String nextCursor;
+
+	// A consulta busca size + 1 linhas; a linha excedente só indica que existe uma próxima página
+	public static <T> CursorPageDTO<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+		if (rows.size() <= size) {
+			return new CursorPageDTO<>(rows, null);
+		}
+		List<T> items = rows.subList(0, size);
+		return new CursorPageDTO<>(items, cursorOf.apply(items.get(size - 1)));
+	}
+}
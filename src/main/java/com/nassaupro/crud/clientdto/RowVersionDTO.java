@@ -0,0 +1,15 @@
+package com.nassaupro.crud.clientdto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowVersionDTO {
+	private Long id;
+	private Instant updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.nassaupro.crud.clientdto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceDetailDTO {
+	private Long id;
+	private String name;
+	private String description;
+	private double price;
+	private Long categoryId;
+	private Long clientId;
+}
@@ -0,0 +1,15 @@
+package com.nassaupro.crud.clientdto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceTextHitDTO {
+	private Long id;
+	private String name;
+	private String description;
+	private double score;
+}
@@ -0,0 +1,49 @@
+package com.nassaupro.crud.coalescing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.model.Service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Descarta, depois do commit, o resultado guardado de um {@link Client} ou {@link Service}
+ * alterado ou removido, para que a próxima consulta por ID não espere o result-ttl vencer.
+ */
+public class CoalescedLookupListener {
+
+	// @Lazy: o Hibernate cria o listener junto com o EntityManagerFactory
+	@Lazy
+	@Autowired
+	private CoalescedLookups coalescedLookups;
+
+	@PostUpdate
+	@PostRemove
+	public void afterChange(Object entity) {
+		if (entity instanceof Client client) {
+			Long id = client.getId();
+			afterCommit(() -> coalescedLookups.getClients().forget(id));
+		} else if (entity instanceof Service service) {
+			Long id = service.getId();
+			afterCommit(() -> coalescedLookups.getServices().forget(id));
+		}
+	}
+
+	private static void afterCommit(Runnable change) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			change.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				change.run();
+			}
+		});
+	}
+}
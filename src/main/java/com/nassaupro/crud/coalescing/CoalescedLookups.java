@@ -0,0 +1,50 @@
+package com.nassaupro.crud.coalescing;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.nassaupro.crud.clientdto.ClientListDTO;
+import com.nassaupro.crud.clientdto.ServiceListDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Consultas por ID com {@link SingleFlight}: o findById e o mapeamento para o DTO são
+ * feitos uma vez para todas as requisições simultâneas da mesma chave. Métricas
+ * {@code nassaupro.coalescing.*} com a tag {@code lookup}.
+ */
+@Component
+public class CoalescedLookups {
+
+	@Autowired
+	private CoalescingProperties properties;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// Chave = ID; updates e deletes descartam os resultados pelo CoalescedLookupListener
+	private SingleFlight<Long, Optional<VersionedClient>> clients;
+
+	private SingleFlight<Long, Optional<ServiceListDTO>> services;
+
+	// O ETag sai da mesma leitura que o DTO: o If-None-Match é conferido sem outra consulta
+	public record VersionedClient(String etag, ClientListDTO client) {
+	}
+
+	@PostConstruct
+	void createLookups() {
+		clients = new SingleFlight<>("clients.by-id", properties, meterRegistry);
+		services = new SingleFlight<>("services.by-id", properties, meterRegistry);
+	}
+
+	public SingleFlight<Long, Optional<VersionedClient>> getClients() {
+		return clients;
+	}
+
+	public SingleFlight<Long, Optional<ServiceListDTO>> getServices() {
+		return services;
+	}
+}
@@ -0,0 +1,21 @@
+package com.nassaupro.crud.coalescing;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "nassaupro.coalescing")
+public class CoalescingProperties {
+
+	// Desligado, cada requisição faz a sua própria consulta
+	private boolean enabled = true;
+
+	// Por quanto tempo o resultado de uma carga ainda é entregue a quem chega depois dela;
+	// zero compartilha só entre requisições simultâneas
+	private Duration resultTtl = Duration.ZERO;
+}
@@ -0,0 +1,150 @@
+package com.nassaupro.crud.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Junta requisições simultâneas pela mesma chave numa carga só: a primeira executa o
+ * {@code loader} e as que chegam enquanto ela roda esperam e recebem o mesmo resultado
+ * (inclusive a mesma exceção). Com {@code nassaupro.coalescing.result-ttl} o resultado
+ * ainda é entregue por esse tempo a quem chegar depois; falhas nunca são guardadas.
+ * <p>
+ * O valor é compartilhado entre as requisições, então deve ser imutável na prática (DTOs
+ * que só são serializados), nunca uma entidade gerenciada.
+ */
+public class SingleFlight<K, V> {
+
+	private final boolean enabled;
+
+	private final long resultTtlNanos;
+
+	private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+	private final Counter leaders;
+
+	private final Counter coalesced;
+
+	private final Counter cached;
+
+	private final DistributionSummary waiters;
+
+	private static final class Flight<V> {
+
+		private final CompletableFuture<V> result = new CompletableFuture<>();
+
+		// Requisições atendidas por esta carga além da que a executou
+		private final AtomicInteger waiters = new AtomicInteger();
+
+		// System.nanoTime a partir do qual o resultado não é mais entregue; vale depois de completa
+		private volatile long expiresAt;
+	}
+
+	public SingleFlight(String name, CoalescingProperties properties, MeterRegistry meterRegistry) {
+		this.enabled = properties.isEnabled();
+		this.resultTtlNanos = properties.getResultTtl().toNanos();
+		this.leaders = Counter.builder("nassaupro.coalescing.requests").tag("lookup", name).tag("result", "leader")
+				.description("Requisições que executaram a carga").register(meterRegistry);
+		this.coalesced = Counter.builder("nassaupro.coalescing.requests").tag("lookup", name)
+				.tag("result", "coalesced").description("Requisições que esperaram uma carga em andamento")
+				.register(meterRegistry);
+		this.cached = Counter.builder("nassaupro.coalescing.requests").tag("lookup", name).tag("result", "cached")
+				.description("Requisições atendidas por uma carga já concluída, dentro do result-ttl")
+				.register(meterRegistry);
+		this.waiters = DistributionSummary.builder("nassaupro.coalescing.waiters").tag("lookup", name)
+				.description("Requisições atendidas por carga, além da que a executou").register(meterRegistry);
+		Gauge.builder("nassaupro.coalescing.keys", flights, ConcurrentHashMap::size).tag("lookup", name)
+				.description("Chaves com carga em andamento ou resultado ainda válido").register(meterRegistry);
+		Gauge.builder("nassaupro.coalescing.ratio", this, SingleFlight::coalescingRatio).tag("lookup", name)
+				.description("Fração das requisições que não executaram carga, desde a subida")
+				.register(meterRegistry);
+	}
+
+	public V load(K key, Function<K, V> loader) {
+		if (!enabled) {
+			return loader.apply(key);
+		}
+		while (true) {
+			Flight<V> flight = flights.get(key);
+			if (flight == null) {
+				Flight<V> mine = new Flight<>();
+				if (flights.putIfAbsent(key, mine) == null) {
+					leaders.increment();
+					return lead(key, mine, loader);
+				}
+			} else if (!flight.result.isDone()) {
+				flight.waiters.incrementAndGet();
+				coalesced.increment();
+				return join(flight);
+			} else if (System.nanoTime() - flight.expiresAt < 0) {
+				flight.waiters.incrementAndGet();
+				cached.increment();
+				return join(flight);
+			} else {
+				finish(key, flight);
+			}
+		}
+	}
+
+	// Descarta a carga da chave (ex.: depois de um update); quem já espera por ela recebe o resultado dela
+	public void forget(K key) {
+		Flight<V> flight = flights.get(key);
+		if (flight != null) {
+			finish(key, flight);
+		}
+	}
+
+	private V lead(K key, Flight<V> flight, Function<K, V> loader) {
+		V value;
+		try {
+			value = loader.apply(key);
+		} catch (RuntimeException | Error e) {
+			flight.expiresAt = System.nanoTime();
+			flight.result.completeExceptionally(e);
+			finish(key, flight);
+			throw e;
+		}
+		flight.expiresAt = System.nanoTime() + resultTtlNanos;
+		flight.result.complete(value);
+		if (resultTtlNanos > 0) {
+			CompletableFuture.delayedExecutor(resultTtlNanos, TimeUnit.NANOSECONDS).execute(() -> finish(key, flight));
+		} else {
+			finish(key, flight);
+		}
+		return value;
+	}
+
+	private void finish(K key, Flight<V> flight) {
+		if (flights.remove(key, flight)) {
+			waiters.record(flight.waiters.get());
+		}
+	}
+
+	private static <V> V join(Flight<V> flight) {
+		try {
+			return flight.result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private double coalescingRatio() {
+		double shared = coalesced.count() + cached.count();
+		double total = shared + leaders.count();
+		return total == 0 ? 0 : shared / total;
+	}
+}
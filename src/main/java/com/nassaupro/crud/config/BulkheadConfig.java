@@ -0,0 +1,23 @@
+package com.nassaupro.crud.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.nassaupro.crud.bulkhead.BulkheadInterceptor;
+
+// Limites de concorrência por classe de endpoint (ver bulkhead/Bulkhead)
+@Configuration
+@ConditionalOnProperty(prefix = "nassaupro.bulkhead", name = "enabled", matchIfMissing = true)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+	@Autowired
+	private BulkheadInterceptor bulkheadInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(bulkheadInterceptor);
+	}
+}
@@ -0,0 +1,44 @@
+package com.nassaupro.crud.config;
+
+import java.io.IOException;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration
+public class CacheConfig {
+
+	// O CacheManager é criado aqui e entregue ao Hibernate para que as mesmas
+	// regiões do cache de segundo nível possam ser medidas pelo Micrometer
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager() throws IOException {
+		return Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+				.getCacheManager(new ClassPathResource("ehcache.xml").getURI(), getClass().getClassLoader());
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+	}
+
+	// Publica cache.gets (hit/miss), cache.puts, cache.evictions e cache.removals por região
+	@Bean
+	public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+		return registry -> {
+			for (String cacheName : secondLevelCacheManager.getCacheNames()) {
+				JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(cacheName), "cache.manager",
+						"hibernate");
+			}
+		};
+	}
+}
@@ -0,0 +1,22 @@
+package com.nassaupro.crud.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class FlywayConfig {
+
+	// Com AOT a condição spring.flyway.enabled é decidida no build e o Flyway fica no contexto
+	// mesmo quando a execução desliga a propriedade (profile training, H2 com create-drop);
+	// a propriedade é conferida de novo aqui, antes de migrar
+	@Bean
+	public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+		return flyway -> {
+			if (environment.getProperty("spring.flyway.enabled", Boolean.class, true)) {
+				flyway.migrate();
+			}
+		};
+	}
+}
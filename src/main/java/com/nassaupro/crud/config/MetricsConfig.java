@@ -0,0 +1,35 @@
+package com.nassaupro.crud.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.nassaupro.crud.web.HandlerNames;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+@Configuration
+public class MetricsConfig {
+
+	// O http.server.requests já separa por uri, status e outcome (SUCCESS, CLIENT_ERROR,
+	// SERVER_ERROR); a tag "handler" diz qual método de controller atendeu a requisição
+	@Bean
+	public ServerRequestObservationConvention handlerObservationConvention() {
+		return new DefaultServerRequestObservationConvention() {
+
+			@Override
+			public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+				return super.getLowCardinalityKeyValues(context).and(handler(context));
+			}
+		};
+	}
+
+	private static KeyValue handler(ServerRequestObservationContext context) {
+		Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		return KeyValue.of("handler", HandlerNames.of(handler));
+	}
+}
@@ -0,0 +1,86 @@
+package com.nassaupro.crud.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.nassaupro.crud.datasource.ReadWriteRoutingDataSource;
+import com.nassaupro.crud.datasource.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Só entra em cena com ao menos uma réplica em nassaupro.datasource.replicas
+@Configuration
+@ConditionalOnProperty(prefix = "nassaupro.datasource", name = "replicas[0].url")
+public class ReadReplicaConfig {
+
+	// O mesmo pool que o Spring Boot criaria a partir de spring.datasource.*
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+			ReplicaProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+		List<HikariDataSource> replicas = new ArrayList<>();
+		for (int i = 0; i < properties.getReplicas().size(); i++) {
+			ReplicaProperties.Replica replica = properties.getReplicas().get(i);
+
+			HikariDataSource dataSource = new HikariDataSource();
+			dataSource.setPoolName("replica-" + i);
+			dataSource.setJdbcUrl(replica.getUrl());
+			dataSource.setUsername(replica.getUsername());
+			dataSource.setPassword(replica.getPassword());
+			dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+			dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+			dataSource.setReadOnly(true);
+			// A aplicação sobe mesmo com a réplica fora do ar; as leituras ficam no primário
+			dataSource.setInitializationFailTimeout(-1);
+			meterRegistry.ifAvailable(
+					registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+			replicas.add(dataSource);
+		}
+		return new ReadWriteRoutingDataSource(primaryDataSource, replicas, properties.getHealthCheckInterval(),
+				properties.getValidationTimeout());
+	}
+
+	// O Hibernate e os repositórios recebem este; a rota é decidida no primeiro comando SQL
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+	}
+
+	// Cada transação pega e devolve a sua conexão (a sessão aberta na requisição não a segura),
+	// assim leituras e escritas da mesma requisição podem ir para bancos diferentes.
+	// O cache de consultas é invalidado no commit da escrita, mas a próxima leitura readOnly
+	// vai para uma réplica que pode ainda não ter a escrita e guardaria o resultado antigo
+	// até o TTL da região (category-queries). Com réplicas, as consultas vão sempre ao banco
+	@Bean
+	public HibernatePropertiesCustomizer replicaHibernateCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.CONNECTION_HANDLING,
+					PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+			properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+		};
+	}
+}
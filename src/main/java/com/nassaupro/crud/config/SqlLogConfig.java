@@ -0,0 +1,24 @@
+package com.nassaupro.crud.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.nassaupro.crud.datasource.SqlExecutionLogger;
+import com.nassaupro.crud.datasource.SqlLogProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Log de SQL lento e amostrado (ver datasource/SqlExecutionLogger); substitui o spring.jpa.show-sql
+@Configuration
+@ConditionalOnProperty(prefix = "nassaupro.sql-log", name = "enabled", matchIfMissing = true)
+public class SqlLogConfig {
+
+	// static: é um BeanPostProcessor e precisa existir antes do DataSource
+	@Bean
+	public static SqlExecutionLogger sqlExecutionLogger(SqlLogProperties properties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return new SqlExecutionLogger(properties, meterRegistry);
+	}
+}
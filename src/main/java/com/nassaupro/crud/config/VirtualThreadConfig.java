@@ -0,0 +1,37 @@
+package com.nassaupro.crud.config;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Modo de execução em virtual threads (Java 21), ligado por
+ * {@code spring.threads.virtual.enabled=true}. Cada requisição do Tomcat roda numa
+ * virtual thread própria, então as chamadas bloqueantes ao JPA/JDBC liberam a thread
+ * de plataforma enquanto esperam o banco; o limite de concorrência passa a ser o pool
+ * do Hikari, e não o {@code server.tomcat.threads.max}.
+ * <p>
+ * A propriedade tem o mesmo nome da que o Spring Boot 3.2 trata sozinho; ao atualizar
+ * o Boot, esta classe pode ser removida.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+		return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+	}
+
+	// Também usado pelo MVC para requisições assíncronas (StreamingResponseBody, Callable)
+	@Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor" })
+	public AsyncTaskExecutor applicationTaskExecutor() {
+		return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+	}
+}
@@ -1,10 +1,16 @@
 package com.nassaupro.crud.controller;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -16,11 +22,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nassaupro.crud.bulkhead.Bulkhead;
+import com.nassaupro.crud.clientdto.BulkItemErrorDTO;
+import com.nassaupro.crud.clientdto.CursorPageDTO;
+import com.nassaupro.crud.exception.PaginationException;
+import com.nassaupro.crud.membership.MembershipIndexes;
 import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.pagination.KeysetCursor;
+import com.nassaupro.crud.pagination.PaginationProperties;
+import com.nassaupro.crud.repository.BulkInsertRepository;
 import com.nassaupro.crud.repository.CategoryRepository;
+import com.nassaupro.crud.repository.UniqueConstraints;
+import com.nassaupro.crud.validation.BulkValidator;
+import com.nassaupro.crud.web.EntityTags;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,35 +54,75 @@ import jakarta.validation.Valid;
 @CrossOrigin(origins = "*")
 @RestController
 @RequestMapping("/categories")
+@Bulkhead(Bulkhead.LIGHT)
 @Tag(name = "Category Controller", description = "Mapeamento dos endpoints das categorias")
 public class CategoryController {
 
 	@Autowired
 	private CategoryRepository categoryRepository;
 
+	@Autowired
+	private PaginationProperties paginationProperties;
+
+	@Autowired
+	private BulkInsertRepository bulkInsertRepository;
+
+	@Autowired
+	private BulkValidator bulkValidator;
+
+	@Autowired
+	private MembershipIndexes membershipIndexes;
+
 	// Endpoint para obter todas as categorias
 	@Operation(summary = "Listar todos as categorias", description = "Retorna uma lista de todas as categorias.", tags = {
 			"Get" })
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", content = {
-					@Content(schema = @Schema(implementation = Category.class), mediaType = "application/json") }),
+					@Content(schema = @Schema(implementation = CursorPageDTO.class), mediaType = "application/json") }),
 			@ApiResponse(responseCode = "204", description = "Não há categoria cadastrada", content = {
 					@Content(schema = @Schema()) }),
+			@ApiResponse(responseCode = "304", description = "A página não mudou desde o ETag informado em If-None-Match", content = {
+					@Content(schema = @Schema()) }),
+			@ApiResponse(responseCode = "400", description = "O cursor de paginação informado não é válido", content = {
+					@Content(schema = @Schema()) }),
 			@ApiResponse(responseCode = "500", description = "Ocorreu um erro ao buscar os clientes", content = {
 					@Content(schema = @Schema()) }) })
+	@Parameters({
+			@Parameter(name = "cursor", description = "Cursor retornado em nextCursor pela página anterior", required = false),
+			@Parameter(name = "size", description = "Quantidade de categorias por página (limitada pelo servidor)", required = false, example = "20"), })
+	@Bulkhead(Bulkhead.HEAVY)
 	@GetMapping("/list")
-	public ResponseEntity<?> getAllCategories() {
+	public ResponseEntity<?> getAllCategories(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 		try {
-			List<Category> categories = categoryRepository.findAll();
+			long afterId = KeysetCursor.decode(cursor).getLastId();
+			int pageSize = paginationProperties.resolveSize(size);
+
+			// O ETag sai só de (ID, UPDATED_AT) da página, sem montar a resposta
+			String etag = EntityTags.of("categories", pageSize,
+					categoryRepository.findVersionPage(afterId, PageRequest.ofSize(pageSize + 1)));
+			if (EntityTags.matches(ifNoneMatch, etag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build(); // Retorna 304 Not Modified
+			}
+
+			// Busca uma linha a mais para saber se existe próxima página
+			List<Category> categories = categoryRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+					PageRequest.ofSize(pageSize + 1));
 
-			if (!categories.isEmpty()) {
-				return ResponseEntity.ok(categories); // Retorna 200 ok e lista de categorias se não estiver vazia
+			if (!categories.isEmpty() || cursor != null) {
+				// Retorna 200 ok e a página de categorias
+				return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(CursorPageDTO.of(
+						categories, pageSize, category -> KeysetCursor.encode(category.getId())));
 			} else {
-				return ResponseEntity.status(HttpStatus.OK).body("Não há categoria cadastrada"); // Retorna 204 No
+				return ResponseEntity.status(HttpStatus.OK).eTag(etag).body("Não há categoria cadastrada"); // Retorna 204 No
 																									// Content se a
 																									// lista estiver
 																									// vazia
 			}
+		} catch (PaginationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // Retorna 400 Bad Request se o
+																						// cursor for inválido
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(); // Retorna 500 Internal Server Error
 																					// em caso de erro
@@ -127,17 +186,80 @@ public class CategoryController {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorMessages);
 		}
 		try {
-			// Verifica se a categoria já existe pelo nome
-			if (categoryRepository.existsByName(newCategory.getName())) {
-				return ResponseEntity.badRequest().body("Já existe uma categoria com o mesmo nome"); // Retorna 400 Bad
-																										// Request se a
-																										// categoria já
-																										// existir
+			// Um único insert: nome repetido é recusado pela constraint única UK_CATEGORIES_NAME
+			newCategory.setId(null); // O ID sempre vem da sequence
+			Category createdCategory = categoryRepository.saveAndFlush(newCategory);
+			return ResponseEntity.ok(createdCategory); // Retorna 200 OK categoria criada com sucesso
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.badRequest().body(duplicateMessage(e)); // Retorna 400 Bad Request se a categoria
+																			// já existir
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(); // Retorna 500 Internal Server Error
+																					// em caso de erro
 
+		}
+	}
+
+	// Endpoint para criar várias categorias de uma vez
+	@Operation(summary = "Cadastra categorias em lote", description = "Valida todo o array e, se nenhum item tiver erro, cadastra todas as categorias com inserts em lote.", tags = {
+			"Post" })
+	@ApiResponses({
+			@ApiResponse(responseCode = "201", description = "Categorias cadastradas com sucesso", content = {
+					@Content(schema = @Schema()) }),
+			@ApiResponse(responseCode = "400", description = "Erros de validação agrupados pelo índice do item", content = {
+					@Content(schema = @Schema(implementation = BulkItemErrorDTO.class), mediaType = "application/json") }),
+			@ApiResponse(responseCode = "500", description = "Ocorreu um erro ao criar as categorias", content = {
+					@Content(schema = @Schema()) }) })
+	@Bulkhead(Bulkhead.HEAVY)
+	@PostMapping("/bulk")
+	public ResponseEntity<?> createCategories(@RequestBody List<Category> newCategories) {
+		if (newCategories == null || newCategories.isEmpty()) {
+			return ResponseEntity.badRequest().body("Informe ao menos uma categoria para cadastrar"); // Retorna 400 Bad
+																										// Request
+		}
+		if (newCategories.size() > bulkValidator.getMaxItems()) {
+			return ResponseEntity.badRequest()
+					.body("O lote não pode conter mais de " + bulkValidator.getMaxItems() + " categorias"); // Retorna 400
+																											// Bad Request
+		}
+		try {
+			Map<Integer, List<String>> errors = bulkValidator.validate(newCategories);
+
+			// Verifica nomes repetidos dentro do lote e, numa única consulta, os já cadastrados
+			Map<String, Integer> indexByName = new HashMap<>();
+			for (int i = 0; i < newCategories.size(); i++) {
+				Category category = newCategories.get(i);
+				if (category == null || category.getName() == null) {
+					continue;
+				}
+				Integer firstIndex = indexByName.putIfAbsent(category.getName(), i);
+				if (firstIndex != null) {
+					BulkValidator.addError(errors, i,
+							"O nome " + category.getName() + " está repetido no lote (item " + firstIndex + ")");
+				}
+			}
+			// Só vão ao banco os nomes que o filtro de existência não descarta
+			for (String name : membershipIndexes.getCategoryNames().findExisting(indexByName.keySet(),
+					categoryRepository::findExistingNames)) {
+				BulkValidator.addError(errors, indexByName.get(name), "Já existe uma categoria com o mesmo nome");
 			}
 
-			Category createdCategory = categoryRepository.save(newCategory);
-			return ResponseEntity.ok(createdCategory); // Retorna 200 OK categoria criada com sucesso
+			if (!errors.isEmpty()) {
+				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(BulkItemErrorDTO.from(errors)); // Retorna 400
+																											// Bad Request
+			}
+
+			newCategories.forEach(category -> category.setId(null)); // O ID sempre vem da sequence
+			int created = bulkInsertRepository.persistAll(newCategories);
+			return ResponseEntity.status(HttpStatus.CREATED).body(created + " categorias cadastradas com sucesso!"); // Retorna
+																													// 201
+																													// Created
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+					.body("Não foi possível cadastrar as categorias devido a restrições de integridade de dados."); // Retorna
+																													// 400
+																													// Bad
+																													// Request
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(); // Retorna 500 Internal Server Error
 																					// em caso de erro
@@ -163,6 +285,8 @@ public class CategoryController {
 						.body("Não foi encontrada uma categoria com o ID: " + id); // Retorna 404 Not Found se a
 																					// categoria não for encontrada
 			}
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.badRequest().body(duplicateMessage(e)); // Retorna 400 Bad Request
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(); // Retorna 500 Internal Server Error
 																					// em caso de erro
@@ -170,6 +294,14 @@ public class CategoryController {
 		}
 	}
 
+	// Mensagem do 400 conforme a constraint violada pelo insert/update
+	private static String duplicateMessage(DataIntegrityViolationException e) {
+		if (UniqueConstraints.isViolated(e, UniqueConstraints.CATEGORIES_NAME)) {
+			return "Já existe uma categoria com o mesmo nome";
+		}
+		return "Não foi possível salvar a categoria devido a restrições de integridade de dados.";
+	}
+
 	// Endpoint para excluir uma categoria pelo ID
 	@DeleteMapping("/delete/{id}")
 	public ResponseEntity<?> deleteCategory(@PathVariable Long id) {
@@ -1,12 +1,16 @@
 package com.nassaupro.crud.controller;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -18,13 +22,29 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nassaupro.crud.bulkhead.Bulkhead;
+import com.nassaupro.crud.clientdto.BulkItemErrorDTO;
 import com.nassaupro.crud.clientdto.ClientListDTO;
+import com.nassaupro.crud.clientdto.CursorPageDTO;
+import com.nassaupro.crud.clientdto.RowVersionDTO;
+import com.nassaupro.crud.coalescing.CoalescedLookups;
 import com.nassaupro.crud.exception.ClientException;
+import com.nassaupro.crud.exception.PaginationException;
+import com.nassaupro.crud.mapper.DtoMapper;
+import com.nassaupro.crud.membership.MembershipIndexes;
 import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.pagination.KeysetCursor;
+import com.nassaupro.crud.pagination.PaginationProperties;
+import com.nassaupro.crud.repository.BulkInsertRepository;
 import com.nassaupro.crud.repository.ClientRepository;
+import com.nassaupro.crud.repository.UniqueConstraints;
+import com.nassaupro.crud.validation.BulkValidator;
+import com.nassaupro.crud.web.EntityTags;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,13 +60,29 @@ import jakarta.validation.Valid;
 @RestController
 @Tag(name = "Client Controller", description = "Mapeamento dos endpoints dos clientes")
 @RequestMapping("/clients")
+@Bulkhead(Bulkhead.LIGHT)
 public class ClientController {
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private ClientRepository clientRepository;
 
 	@Autowired
-	private ClientRepository clientRepository;
+	private PaginationProperties paginationProperties;
+
+	@Autowired
+	private DtoMapper dtoMapper;
+
+	@Autowired
+	private BulkInsertRepository bulkInsertRepository;
+
+	@Autowired
+	private BulkValidator bulkValidator;
+
+	@Autowired
+	private MembershipIndexes membershipIndexes;
+
+	@Autowired
+	private CoalescedLookups coalescedLookups;
 
 	// Endpoint para criar um novo cliente
 	@Parameters({
@@ -74,16 +110,13 @@ public class ClientController {
 		}
 
 		try {
-			// Verifica se o CPF já está em uso
-			if (clientRepository.existsByCpf(client.getCpf())) {
-				throw ClientException.cpfAlreadyExists(client.getCpf()); // Exceção para CPF já existente
-			}
-			// Salva o cliente no banco de dados
-			clientRepository.save(client);
+			// Um único insert: CPF ou e-mail já em uso são recusados pelas constraints únicas
+			client.setId(null); // O ID sempre vem da sequence
+			clientRepository.saveAndFlush(client);
 			return ResponseEntity.status(HttpStatus.CREATED).body("Cliente cadastrado com sucesso!"); // 201 Created
 
-		} catch (ClientException e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400 Bad Request
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(duplicateMessage(e, client)); // 400 Bad Request
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao criar o cliente"); // 500
 																														// Internal
@@ -93,30 +126,118 @@ public class ClientController {
 	}
 	// -------------------------------------------------------------------------------
 
+	// Endpoint para cadastrar vários clientes de uma vez
+	@Operation(summary = "Cadastra clientes em lote", description = "Valida todo o array e, se nenhum item tiver erro, cadastra todos os clientes com inserts em lote.", tags = {
+			"Post" })
+	@ApiResponses({
+			@ApiResponse(responseCode = "201", description = "Clientes cadastrados com sucesso", content = {
+					@Content(schema = @Schema()) }),
+			@ApiResponse(responseCode = "400", description = "Erros de validação agrupados pelo índice do item", content = {
+					@Content(schema = @Schema(implementation = BulkItemErrorDTO.class), mediaType = "application/json") }),
+			@ApiResponse(responseCode = "500", description = "Ocorreu um erro ao criar os clientes", content = {
+					@Content(schema = @Schema()) }) })
+	@Bulkhead(Bulkhead.HEAVY)
+	@PostMapping("/bulk")
+	public ResponseEntity<?> createClients(@RequestBody List<Client> clients) {
+		if (clients == null || clients.isEmpty()) {
+			return ResponseEntity.badRequest().body("Informe ao menos um cliente para cadastrar"); // 400 Bad Request
+		}
+		if (clients.size() > bulkValidator.getMaxItems()) {
+			return ResponseEntity.badRequest()
+					.body("O lote não pode conter mais de " + bulkValidator.getMaxItems() + " clientes"); // 400 Bad Request
+		}
+
+		try {
+			Map<Integer, List<String>> errors = bulkValidator.validate(clients);
+
+			// Verifica CPFs e e-mails repetidos dentro do lote e, numa única consulta cada, os já
+			// cadastrados; só vão ao banco os valores que o filtro de existência não descarta
+			Map<String, Integer> indexByCpf = new HashMap<>();
+			Map<String, Integer> indexByEmail = new HashMap<>();
+			for (int i = 0; i < clients.size(); i++) {
+				Client client = clients.get(i);
+				if (client == null) {
+					continue;
+				}
+				if (client.getCpf() != null) {
+					Integer firstIndex = indexByCpf.putIfAbsent(client.getCpf(), i);
+					if (firstIndex != null) {
+						BulkValidator.addError(errors, i,
+								"O CPF " + client.getCpf() + " está repetido no lote (item " + firstIndex + ")");
+					}
+				}
+				if (client.getEmail() != null) {
+					Integer firstIndex = indexByEmail.putIfAbsent(client.getEmail(), i);
+					if (firstIndex != null) {
+						BulkValidator.addError(errors, i,
+								"O e-mail " + client.getEmail() + " está repetido no lote (item " + firstIndex + ")");
+					}
+				}
+			}
+			for (String cpf : membershipIndexes.getClientCpfs().findExisting(indexByCpf.keySet(),
+					clientRepository::findExistingCpfs)) {
+				BulkValidator.addError(errors, indexByCpf.get(cpf), ClientException.cpfAlreadyExists(cpf).getMessage());
+			}
+			for (String email : membershipIndexes.getClientEmails().findExisting(indexByEmail.keySet(),
+					clientRepository::findExistingEmails)) {
+				BulkValidator.addError(errors, indexByEmail.get(email),
+						ClientException.emailAlreadyExists(email).getMessage());
+			}
+
+			if (!errors.isEmpty()) {
+				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(BulkItemErrorDTO.from(errors)); // 400 Bad Request
+			}
+
+			clients.forEach(client -> client.setId(null)); // O ID sempre vem da sequence
+			int created = bulkInsertRepository.persistAll(clients);
+			return ResponseEntity.status(HttpStatus.CREATED).body(created + " clientes cadastrados com sucesso!"); // 201 Created
+
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+					.body("Não foi possível cadastrar os clientes devido a restrições de integridade de dados."); // 400 Bad Request
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao criar os clientes"); // 500
+		}
+	}
+	// -------------------------------------------------------------------------------
+
 	// Endpoint para listar todos os clientes usando DTO
 	@Operation(summary = "Listar todos os clientes", description = "Retorna uma lista com nome, sobrenome e email de todos clientes cadastrados.", tags = {
 			"Get" })
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", content = {
-					@Content(schema = @Schema(implementation = ClientListDTO.class), mediaType = "application/json") }),
+					@Content(schema = @Schema(implementation = CursorPageDTO.class), mediaType = "application/json") }),
 			@ApiResponse(responseCode = "204", description = "Não há cliente cadastrado", content = {
 					@Content(schema = @Schema()) }),
+			@ApiResponse(responseCode = "400", description = "O cursor de paginação informado não é válido", content = {
+					@Content(schema = @Schema()) }),
 			@ApiResponse(responseCode = "500", description = "Ocorreu um erro ao buscar os clientes", content = {
 					@Content(schema = @Schema()) }) })
+	@Parameters({
+			@Parameter(name = "cursor", description = "Cursor retornado em nextCursor pela página anterior", required = false),
+			@Parameter(name = "size", description = "Quantidade de clientes por página (limitada pelo servidor)", required = false, example = "20"), })
+	@Bulkhead(Bulkhead.HEAVY)
 	@GetMapping("/list")
-	public ResponseEntity<?> getAllClients() {
+	public ResponseEntity<?> getAllClients(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
 		try {
-			List<Client> clients = clientRepository.findAll();
+			long afterId = KeysetCursor.decode(cursor).getLastId();
+			int pageSize = paginationProperties.resolveSize(size);
+
+			// Busca uma linha a mais para saber se existe próxima página
+			// O banco já devolve apenas as colunas do ClientListDTO
+			List<ClientListDTO> clients = clientRepository.findListPage(afterId, PageRequest.ofSize(pageSize + 1));
 
-			if (clients.isEmpty()) {
+			if (clients.isEmpty() && cursor == null) {
 				return ResponseEntity.ok("Não há cliente cadastrado"); // 200 OK
 			}
 
-			// Mapear Clientes para ClientDTOs
-			List<ClientListDTO> clientListDTO = clients.stream()
-					.map(client -> modelMapper.map(client, ClientListDTO.class)).collect(Collectors.toList());
+			CursorPageDTO<ClientListDTO> clientListDTO = CursorPageDTO.of(clients, pageSize,
+					client -> KeysetCursor.encode(client.getId()));
 
-			return ResponseEntity.ok(clientListDTO); // 200 OK e retorna o ClientListDTO
+			return ResponseEntity.ok(clientListDTO); // 200 OK e retorna a página de ClientListDTO
+		} catch (PaginationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400 Bad Request
 		} catch (Exception e) {
 			// Tratando qualquer exceção inesperada (Ainda falta implementar)
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -131,6 +252,8 @@ public class ClientController {
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", content = {
 					@Content(schema = @Schema(implementation = ClientListDTO.class), mediaType = "application/json") }),
+			@ApiResponse(responseCode = "304", description = "O cliente não mudou desde o ETag informado em If-None-Match", content = {
+					@Content(schema = @Schema()) }),
 			@ApiResponse(responseCode = "404", description = "Cliente não encontrado com o ID: {id}", content = {
 					@Content(schema = @Schema()) }),
 			@ApiResponse(responseCode = "500", description = "Ocorreu um erro ao buscar o cliente pelo ID", content = {
@@ -138,20 +261,24 @@ public class ClientController {
 	@Parameter(name = "id", description = "ID do usuário a ser listado", required = true, example = "1")
 	@CrossOrigin(origins = "*")
 	@GetMapping("/list/{id}")
-	public ResponseEntity<?> getClientById(@Valid @PathVariable Long id) {
+	public ResponseEntity<?> getClientById(@Valid @PathVariable Long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 		try {
-			Optional<Client> optionalClient = clientRepository.findById(id);
-
-			if (optionalClient.isPresent()) {
-				Client client = optionalClient.get();
-
-				ModelMapper modelMapper = new ModelMapper();
-				ClientListDTO clientListDTO = modelMapper.map(client, ClientListDTO.class);
-
-				return ResponseEntity.ok(clientListDTO); // 200 OK e retorna o DTO
-			} else {
-				throw ClientException.clientNotFound(id); // Exceção personalizada
+			// Requisições simultâneas pelo mesmo cliente dividem um findById, o ETag e o mapeamento
+			CoalescedLookups.VersionedClient versioned = coalescedLookups.getClients()
+					.load(id, key -> clientRepository.findById(key)
+							.map(client -> new CoalescedLookups.VersionedClient(
+									EntityTags.of("client", new RowVersionDTO(client.getId(), client.getUpdatedAt())),
+									dtoMapper.toClientListDTO(client))))
+					.orElseThrow(() -> ClientException.clientNotFound(id));
+
+			String etag = versioned.etag();
+			if (EntityTags.matches(ifNoneMatch, etag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build(); // 304 Not Modified
 			}
+
+			// 200 OK e retorna o DTO
+			return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(versioned.client());
 		} catch (ClientException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage()); // 404 Not Found
 		} catch (Exception e) {
@@ -234,14 +361,48 @@ public class ClientController {
 		}
 
 		// Salvar as alterações no banco de dados
-		clientRepository.save(client);
+		try {
+			clientRepository.save(client);
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.badRequest().body(duplicateMessage(e, client)); // 400 Bad Request
+		}
 		return ResponseEntity.ok("Dados atualizados com sucesso!"); // Retorna um código de status 200 OK
 	}
 
-	// Método de validação de e-mail
-	private boolean isValidEmail(String email) {
-		String emailRegex = "^[A-Za-z0-9+_.-]+@(.+)$";
-		return email.matches(emailRegex);
+	// Mensagem do 400 conforme a constraint única violada pelo insert/update
+	private static String duplicateMessage(DataIntegrityViolationException e, Client client) {
+		if (UniqueConstraints.isViolated(e, UniqueConstraints.CLIENTS_CPF)) {
+			return ClientException.cpfAlreadyExists(client.getCpf()).getMessage();
+		}
+		if (UniqueConstraints.isViolated(e, UniqueConstraints.CLIENTS_EMAIL)) {
+			return ClientException.emailAlreadyExists(client.getEmail()).getMessage();
+		}
+		return "Não foi possível salvar o cliente devido a restrições de integridade de dados.";
+	}
+
+	// Método de validação de e-mail (visível no pacote para o ClientControllerBenchmark)
+	// Mesmo resultado de email.matches("^[A-Za-z0-9+_.-]+@(.+)$"), sem compilar a regex a cada chamada
+	static boolean isValidEmail(String email) {
+		int at = 0;
+		while (at < email.length() && isEmailLocalChar(email.charAt(at))) {
+			at++;
+		}
+		if (at == 0 || at >= email.length() - 1 || email.charAt(at) != '@') {
+			return false;
+		}
+		for (int i = at + 1; i < email.length(); i++) {
+			char c = email.charAt(i);
+			// O "." da regex não aceita quebras de linha
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isEmailLocalChar(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '_'
+				|| c == '.' || c == '-';
 	}
 
 	// -------------------------------------------------------------------------------
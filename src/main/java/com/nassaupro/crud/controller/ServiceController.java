@@ -1,15 +1,28 @@
 package com.nassaupro.crud.controller;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -19,32 +32,56 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nassaupro.crud.bulkhead.Bulkhead;
+import com.nassaupro.crud.clientdto.BulkItemErrorDTO;
+import com.nassaupro.crud.clientdto.CursorPageDTO;
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
 import com.nassaupro.crud.clientdto.ServiceListDTO;
+import com.nassaupro.crud.clientdto.ServiceTextHitDTO;
+import com.nassaupro.crud.coalescing.CoalescedLookups;
+import com.nassaupro.crud.exception.PaginationException;
 import com.nassaupro.crud.exception.ServiceException;
+import com.nassaupro.crud.mapper.DtoMapper;
 import com.nassaupro.crud.model.Category;
-import com.nassaupro.crud.model.Client;
 import com.nassaupro.crud.model.Service;
+import com.nassaupro.crud.pagination.KeysetCursor;
+import com.nassaupro.crud.pagination.PaginationProperties;
+import com.nassaupro.crud.pagination.SearchCursor;
+import com.nassaupro.crud.repository.BulkInsertRepository;
 import com.nassaupro.crud.repository.CategoryRepository;
 import com.nassaupro.crud.repository.ClientRepository;
 import com.nassaupro.crud.repository.ServiceRepository;
+import com.nassaupro.crud.repository.ServiceSearchSort;
+import com.nassaupro.crud.repository.ServiceSpecifications;
+import com.nassaupro.crud.search.ServiceTextIndex;
+import com.nassaupro.crud.validation.BulkValidator;
+import com.nassaupro.crud.web.EntityTags;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @CrossOrigin(origins = "*")
 @RestController
 @RequestMapping("/services")
+@Bulkhead(Bulkhead.LIGHT)
 @Tag(name = "Service Controller", description = "Mapeamento dos endpoints dos serviços")
 public class ServiceController {
 
+	private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+	private static final int EXPORT_FLUSH_INTERVAL = 500;
+
 	
 	//teste para o ci/cd eduardo
-	@Autowired
-	private ModelMapper modelMapper;
-	
 	@Autowired
 	private ServiceRepository serviceRepository;
 	
@@ -54,7 +91,30 @@ public class ServiceController {
 	@Autowired
 	private ClientRepository clientRepository;
 
+	@Autowired
+	private PaginationProperties paginationProperties;
+
+	@Autowired
+	private DtoMapper dtoMapper;
+
+	@Autowired
+	private BulkInsertRepository bulkInsertRepository;
+
+	@Autowired
+	private BulkValidator bulkValidator;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ServiceTextIndex serviceTextIndex;
+
+	@Autowired
+	private CoalescedLookups coalescedLookups;
+
 	// Endpoint para criar um novo serviço
+	// As verificações e o insert numa transação de escrita: leem do primário, nunca de uma réplica
+	@Transactional
 	@PostMapping("/create")
 	public ResponseEntity<?> createService(@Valid @RequestBody Service service, BindingResult bindingResult) {
 		if (bindingResult.hasErrors()) {
@@ -72,39 +132,147 @@ public class ServiceController {
 	        if (service.getName() == null || service.getName().isEmpty()) {
 	            return ResponseEntity.badRequest().body("O campo 'name' é obrigatório"); // 400 Bad Request
 	        }
-	        List<Category> categories = categoryRepository.findAll();
-	        List<Client> clients = clientRepository.findAll();
-
-			if (categories.isEmpty()) {
-				return ResponseEntity.badRequest().body("Você não pode criar um serviço sem ter uma categoria para vincular");
-			}else {
-				if (clients.isEmpty()) {
-				return ResponseEntity.badRequest().body("Você não pode criar um serviço sem ter um usuário para vincular");
-				}else {
-					serviceRepository.save(service);
-			        return ResponseEntity.status(HttpStatus.CREATED).body("Serviço cadastrado com sucesso!"); // 201 Created
-				}
-			}
+
+	        // Valida só a categoria e o cliente referenciados, por chave primária
+	        Long categoryId = service.getCategory() != null ? service.getCategory().getId() : null;
+	        Long clientId = service.getClient() != null ? service.getClient().getId() : null;
+
+	        if (categoryId == null) {
+	            throw ServiceException.categoryRequired();
+	        }
+	        if (clientId == null) {
+	            throw ServiceException.clientRequired();
+	        }
+	        // A categoria vem do cache de segundo nível na maioria das vezes
+	        Category category = categoryRepository.findById(categoryId)
+	                .orElseThrow(() -> ServiceException.categoryNotFound(categoryId));
+	        if (!clientRepository.existsById(clientId)) {
+	            throw ServiceException.clientNotFound(clientId);
+	        }
+
+	        // A referência (proxy) evita carregar o cliente só para preencher a FK
+	        service.setCategory(category);
+	        service.setClient(clientRepository.getReferenceById(clientId));
+
+	        // O flush leva o insert para dentro do try: uma FK violada aparece aqui e não no commit
+	        serviceRepository.saveAndFlush(service);
+	        return ResponseEntity.status(HttpStatus.CREATED).body("Serviço cadastrado com sucesso!"); // 201 Created
+	    } catch (ServiceException e) {
+	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400 Bad Request
+	    } catch (DataIntegrityViolationException e) {
+	        // Categoria ou cliente excluído entre a verificação e o insert
+	        rollbackOnly();
+	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Não é possível cadastrar o serviço: a categoria ou o cliente não existe mais"); // 400 Bad Request
 	    } catch (Exception e) {
+	        rollbackOnly();
 	        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao criar o serviço"); // 500 Internal Server Error
 	    }
 	}
 
 
-	// Endpoint para listar todos os serviços
+	// Endpoint para cadastrar vários serviços de uma vez
+	@Bulkhead(Bulkhead.HEAVY)
+	@PostMapping("/bulk")
+	public ResponseEntity<?> createServices(@RequestBody List<Service> services) {
+		if (services == null || services.isEmpty()) {
+			return ResponseEntity.badRequest().body("Informe ao menos um serviço para cadastrar"); // 400 Bad Request
+		}
+		if (services.size() > bulkValidator.getMaxItems()) {
+			return ResponseEntity.badRequest()
+					.body("O lote não pode conter mais de " + bulkValidator.getMaxItems() + " serviços"); // 400 Bad Request
+		}
+
+	    try {
+	        Map<Integer, List<String>> errors = bulkValidator.validate(services);
+
+	        // Coleta as categorias e clientes referenciados para validar todos numa consulta só
+	        Set<Long> categoryIds = new HashSet<>();
+	        Set<Long> clientIds = new HashSet<>();
+	        for (int i = 0; i < services.size(); i++) {
+	            Service service = services.get(i);
+	            if (service == null) {
+	                continue;
+	            }
+	            if (service.getCategory() == null || service.getCategory().getId() == null) {
+	                BulkValidator.addError(errors, i, ServiceException.categoryRequired().getMessage());
+	            } else {
+	                categoryIds.add(service.getCategory().getId());
+	            }
+	            if (service.getClient() == null || service.getClient().getId() == null) {
+	                BulkValidator.addError(errors, i, ServiceException.clientRequired().getMessage());
+	            } else {
+	                clientIds.add(service.getClient().getId());
+	            }
+	        }
+
+	        Set<Long> existingCategoryIds = categoryIds.isEmpty() ? Set.of() : categoryRepository.findExistingIds(categoryIds);
+	        Set<Long> existingClientIds = clientIds.isEmpty() ? Set.of() : clientRepository.findExistingIds(clientIds);
+	        for (int i = 0; i < services.size(); i++) {
+	            Service service = services.get(i);
+	            if (service == null) {
+	                continue;
+	            }
+	            if (service.getCategory() != null && service.getCategory().getId() != null
+	                    && !existingCategoryIds.contains(service.getCategory().getId())) {
+	                BulkValidator.addError(errors, i, ServiceException.categoryNotFound(service.getCategory().getId()).getMessage());
+	            }
+	            if (service.getClient() != null && service.getClient().getId() != null
+	                    && !existingClientIds.contains(service.getClient().getId())) {
+	                BulkValidator.addError(errors, i, ServiceException.clientNotFound(service.getClient().getId()).getMessage());
+	            }
+	        }
+
+	        if (!errors.isEmpty()) {
+	            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(BulkItemErrorDTO.from(errors)); // 400 Bad Request
+	        }
+
+	        for (Service service : services) {
+	            service.setId(null); // O ID sempre vem da sequence
+	            service.setCategory(categoryRepository.getReferenceById(service.getCategory().getId()));
+	            service.setClient(clientRepository.getReferenceById(service.getClient().getId()));
+	        }
+	        int created = bulkInsertRepository.persistAll(services);
+	        return ResponseEntity.status(HttpStatus.CREATED).body(created + " serviços cadastrados com sucesso!"); // 201 Created
+	    } catch (DataIntegrityViolationException e) {
+	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Não foi possível cadastrar os serviços devido a restrições de integridade de dados."); // 400 Bad Request
+	    } catch (Exception e) {
+	        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao criar os serviços"); // 500 Internal Server Error
+	    }
+	}
+
+
+	// Endpoint para listar os serviços, paginado por cursor
+	@Bulkhead(Bulkhead.HEAVY)
 	@GetMapping("/list")
-	public ResponseEntity<?> getAllServices() {
+	public ResponseEntity<?> getAllServices(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 		try {
-			List<Service> services = serviceRepository.findAll();
+			long afterId = KeysetCursor.decode(cursor).getLastId();
+			int pageSize = paginationProperties.resolveSize(size);
 
-			if (services.isEmpty()) {
-				return ResponseEntity.ok("Não há serviço cadastrado"); // 200 OK
+			// O ETag sai só de (ID, UPDATED_AT) da página, sem montar a resposta
+			String etag = EntityTags.of("services", pageSize,
+					serviceRepository.findVersionPage(afterId, PageRequest.ofSize(pageSize + 1)));
+			if (EntityTags.matches(ifNoneMatch, etag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build(); // 304 Not Modified
+			}
+
+			// Busca uma linha a mais para saber se existe próxima página
+			// O banco já devolve apenas as colunas do ServiceListDTO
+			List<ServiceListDTO> services = serviceRepository.findListPage(afterId, PageRequest.ofSize(pageSize + 1));
+
+			if (services.isEmpty() && cursor == null) {
+				return ResponseEntity.ok().eTag(etag).body("Não há serviço cadastrado"); // 200 OK
 			}
-			
-			List<ServiceListDTO> serviceListDTO = services.stream()
-					.map(service -> modelMapper.map(service, ServiceListDTO.class)).collect(Collectors.toList());
 
-			return ResponseEntity.ok(serviceListDTO); // 200 OK e retorna o ClientListDTO
+			CursorPageDTO<ServiceListDTO> serviceListDTO = CursorPageDTO.of(services, pageSize,
+					service -> KeysetCursor.encode(service.getId()));
+
+			// 200 OK e retorna a página de ServiceListDTO
+			return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(serviceListDTO);
+		} catch (PaginationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400 Bad Request
 		} catch (Exception e) {
 			// Tratando qualquer exceção inesperada (Ainda falta implementar)
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -113,17 +281,105 @@ public class ServiceController {
 	}
 
 
+	// Endpoint para buscar serviços por categoria, cliente e faixa de preço, paginado por cursor
+	@Bulkhead(Bulkhead.HEAVY)
+	@GetMapping("/search")
+	public ResponseEntity<?> searchServices(@RequestParam(required = false) Long categoryId,
+			@RequestParam(required = false) Long clientId, @RequestParam(required = false) Double minPrice,
+			@RequestParam(required = false) Double maxPrice, @RequestParam(defaultValue = "price") String sort,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		try {
+			ServiceSearchSort searchSort = ServiceSearchSort.from(sort);
+			if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+				throw ServiceException.invalidPriceRange(minPrice, maxPrice);
+			}
+			SearchCursor after = SearchCursor.decode(cursor, searchSort.getAttribute());
+			int pageSize = paginationProperties.resolveSize(size);
+
+			// Só os filtros informados entram no WHERE
+			Specification<Service> filters = Specification.where(ServiceSpecifications.hasCategory(categoryId))
+					.and(ServiceSpecifications.hasClient(clientId))
+					.and(ServiceSpecifications.priceAtLeast(minPrice))
+					.and(ServiceSpecifications.priceAtMost(maxPrice))
+					.and(ServiceSpecifications.after(searchSort, after));
+
+			// Busca uma linha a mais para saber se existe próxima página
+			List<ServiceDetailDTO> services = serviceRepository.search(filters, searchSort, pageSize + 1);
+
+			return ResponseEntity.ok(CursorPageDTO.of(services, pageSize, service -> SearchCursor
+					.encode(searchSort.getAttribute(), searchSort.valueOf(service), service.getId()))); // 200 OK
+		} catch (ServiceException | PaginationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400 Bad Request
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("Ocorreu um erro ao buscar os serviços"); // 500 Internal Server Error
+		}
+	}
+
+
+	// Endpoint para buscar serviços por palavras do nome e da descrição, dos mais relevantes para os menos
+	@Bulkhead(Bulkhead.HEAVY)
+	@GetMapping("/search/text")
+	public ResponseEntity<?> searchServicesByText(@RequestParam(required = false) String q,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		try {
+			if (q == null || q.isBlank()) {
+				throw ServiceException.searchTermRequired();
+			}
+			SearchCursor after = SearchCursor.decode(cursor, ServiceTextIndex.CURSOR_SORT);
+			int pageSize = paginationProperties.resolveSize(size);
+
+			// Consulta só o índice em memória; o banco não participa da busca
+			List<ServiceTextHitDTO> hits = serviceTextIndex.search(q, after, pageSize + 1);
+
+			return ResponseEntity.ok(CursorPageDTO.of(hits, pageSize, hit -> SearchCursor
+					.encode(ServiceTextIndex.CURSOR_SORT, Double.toString(hit.getScore()), hit.getId()))); // 200 OK
+		} catch (ServiceException | PaginationException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 400 Bad Request
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("Ocorreu um erro ao buscar os serviços"); // 500 Internal Server Error
+		}
+	}
+
+
+	// Endpoint para exportar todo o catálogo de serviços em NDJSON (um serviço por linha)
+	@Transactional(readOnly = true)
+	@Bulkhead(Bulkhead.HEAVY)
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public void exportServices(HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+		ObjectWriter writer = objectMapper.writerFor(ServiceDetailDTO.class);
+		OutputStream output = new BufferedOutputStream(response.getOutputStream(), EXPORT_BUFFER_SIZE);
+
+		try (Stream<ServiceDetailDTO> services = serviceRepository.streamAllDetails()) {
+			long written = 0;
+			for (ServiceDetailDTO service : (Iterable<ServiceDetailDTO>) services::iterator) {
+				output.write(writer.writeValueAsBytes(service));
+				output.write('\n');
+
+				// A primeira linha sai imediatamente; depois o buffer é descarregado em blocos
+				if (++written == 1 || written % EXPORT_FLUSH_INTERVAL == 0) {
+					output.flush();
+				}
+			}
+		}
+		output.flush();
+	}
+
+
 	// Endpoint para obter um serviço pelo ID
 	@GetMapping("/list/{id}")
 	public ResponseEntity<?> getServiceById(@Valid @PathVariable Long id) {
 		try {
-			Optional<Service> optionalService = serviceRepository.findById(id);
+			// Requisições simultâneas pelo mesmo ID dividem um findById e o mapeamento
+			Optional<ServiceListDTO> optionalService = coalescedLookups.getServices().load(id,
+					key -> serviceRepository.findById(key).map(dtoMapper::toServiceListDTO));
 
 			if (optionalService.isPresent()) {
-				Service service = optionalService.get();
-
-				ModelMapper modelMapper = new ModelMapper();
-				ServiceListDTO serviceListDTO = modelMapper.map(service, ServiceListDTO.class);
+				ServiceListDTO serviceListDTO = optionalService.get();
 
 				return ResponseEntity.ok(serviceListDTO); // 200 OK e retorna o DTO
 			} else {
@@ -138,6 +394,8 @@ public class ServiceController {
 	}
 
 	// Endpoint para atualizar um serviço existente
+	// Na mesma transação o serviço lido continua gerenciado: o save não refaz o select do merge
+	@Transactional
 	@PutMapping("/change/{id}")
 	public ResponseEntity<?> updateService(@PathVariable Long id, @Valid @RequestBody Service updatedService,
 			BindingResult bindingResult) {
@@ -163,16 +421,18 @@ public class ServiceController {
 	                return ResponseEntity.badRequest().body("O campo nome não pode estar vazio"); // 400 Bad Request
 	            }
 
-	            // Salva as alterações no banco de dados
-	            serviceRepository.save(service);
+	            // Salva as alterações no banco de dados; o flush faz uma violação cair no catch abaixo
+	            serviceRepository.saveAndFlush(service);
 
 	            return ResponseEntity.ok("Serviço atualizado com sucesso"); // 200 OK
 	        } else {
 	        	return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Serviço não encontrado com o ID: " + id); // Serviço não encontrado - 404 Not Found
 	        }
 	    } catch (DataIntegrityViolationException e) {
+	        rollbackOnly();
 	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Não é possível atualizar o serviço devido a restrições de integridade de dados."); // 400 Bad Request
 	    } catch (Exception e) {
+	        rollbackOnly();
 	        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao atualizar o serviço"); // 500 Internal Server Error
 	    }
 	}
@@ -195,4 +455,10 @@ public class ServiceController {
 	    }
 	}
 
+	// Para os endpoints @Transactional que devolvem o erro em vez de lançar: a transação é
+	// desfeita no fim do método sem o UnexpectedRollbackException do commit
+	private static void rollbackOnly() {
+		TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+	}
+
 }
@@ -0,0 +1,144 @@
+package com.nassaupro.crud.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Manda as conexões de transações {@code readOnly} para as réplicas, em rodízio, e todo o
+ * resto para o primário. Uma réplica que falha ao entregar conexão sai do rodízio na hora
+ * e a leitura segue no primário; a verificação periódica a devolve quando voltar a responder.
+ * <p>
+ * A decisão usa a flag de somente leitura da transação corrente, então precisa ficar atrás
+ * de um {@code LazyConnectionDataSourceProxy}: a conexão física só é pedida no primeiro
+ * comando SQL, quando a transação já foi iniciada.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+	private final DataSource primary;
+
+	private final List<Replica> replicas;
+
+	private final int validationTimeoutSeconds;
+
+	private final AtomicInteger next = new AtomicInteger();
+
+	private final ScheduledExecutorService healthChecks;
+
+	private static final class Replica {
+
+		private final DataSource dataSource;
+
+		private volatile boolean healthy = true;
+
+		private Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+	}
+
+	// healthCheckInterval zero desliga a verificação periódica (checkReplicas() ainda pode ser chamado)
+	public ReadWriteRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+			Duration healthCheckInterval, Duration validationTimeout) {
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+
+		if (healthCheckInterval.isZero() || this.replicas.isEmpty()) {
+			this.healthChecks = null;
+		} else {
+			this.healthChecks = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "replica-health-check");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long period = healthCheckInterval.toMillis();
+			this.healthChecks.scheduleWithFixedDelay(this::checkReplicas, period, period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			Connection connection = replicaConnection();
+			if (connection != null) {
+				return connection;
+			}
+		}
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		// Credenciais explícitas só fazem sentido no primário
+		return primary.getConnection(username, password);
+	}
+
+	public void checkReplicas() {
+		for (int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get(i);
+			boolean healthy;
+			try (Connection connection = replica.dataSource.getConnection()) {
+				healthy = connection.isValid(validationTimeoutSeconds);
+			} catch (SQLException e) {
+				healthy = false;
+			}
+			if (healthy != replica.healthy) {
+				log.warn("Réplica {} {}", i, healthy ? "voltou ao rodízio de leitura" : "fora do ar, leituras no primário");
+			}
+			replica.healthy = healthy;
+		}
+	}
+
+	public boolean isReplicaHealthy(int index) {
+		return replicas.get(index).healthy;
+	}
+
+	@Override
+	public void close() throws Exception {
+		if (healthChecks != null) {
+			healthChecks.shutdownNow();
+		}
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	// null quando nenhuma réplica saudável entregou conexão
+	private Connection replicaConnection() {
+		int size = replicas.size();
+		if (size == 0) {
+			return null;
+		}
+		int start = Math.floorMod(next.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			int index = (start + i) % size;
+			Replica replica = replicas.get(index);
+			if (!replica.healthy) {
+				continue;
+			}
+			try {
+				return replica.dataSource.getConnection();
+			} catch (SQLException e) {
+				replica.healthy = false;
+				log.warn("Réplica {} fora do ar, leituras no primário: {}", index, e.getMessage());
+			}
+		}
+		return null;
+	}
+}
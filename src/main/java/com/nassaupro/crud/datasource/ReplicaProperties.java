@@ -0,0 +1,39 @@
+package com.nassaupro.crud.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "nassaupro.datasource")
+public class ReplicaProperties {
+
+	// Réplicas de leitura; sem nenhuma configurada tudo vai para spring.datasource
+	private List<Replica> replicas = new ArrayList<>();
+
+	// De quanto em quanto tempo as réplicas são testadas (e voltam ao rodízio quando respondem)
+	private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+	private Duration validationTimeout = Duration.ofSeconds(2);
+
+	@Data
+	public static class Replica {
+
+		private String url;
+
+		private String username;
+
+		private String password;
+
+		private int maximumPoolSize = 10;
+
+		// Curto para que uma réplica fora do ar caia logo para o primário
+		private Duration connectionTimeout = Duration.ofSeconds(1);
+	}
+}
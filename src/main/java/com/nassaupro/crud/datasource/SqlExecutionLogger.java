@@ -0,0 +1,188 @@
+package com.nassaupro.crud.datasource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.nassaupro.crud.web.HandlerNames;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Mede cada comando SQL que passa pelo DataSource da aplicação (um por execute/executeBatch)
+ * e, no lugar do {@code spring.jpa.show-sql}, loga só os lentos e uma amostra dos demais,
+ * com o método de controller que os disparou e um resumo dos parâmetros.
+ * <p>
+ * O log vai para o logger {@code nassaupro.sql}, que escreve pelo appender assíncrono do
+ * {@code logback-spring.xml}: a thread da requisição não espera o console.
+ */
+public class SqlExecutionLogger implements BeanPostProcessor, SmartInitializingSingleton, QueryExecutionListener {
+
+	private static final Logger log = LoggerFactory.getLogger("nassaupro.sql");
+
+	// O DataSource que o Hibernate, o Flyway e os repositórios recebem (com ou sem réplicas)
+	private static final String DATA_SOURCE_BEAN = "dataSource";
+
+	private static final int MAX_VALUE_LENGTH = 100;
+
+	private final SqlLogProperties properties;
+
+	private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	// Só depois da subida: pedir o MeterRegistry antes disso o criaria fora de ordem
+	private volatile MeterRegistry meterRegistry;
+
+	public SqlExecutionLogger(SqlLogProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		this.properties = properties;
+		this.meterRegistryProvider = meterRegistryProvider;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+			return bean;
+		}
+		if (bean instanceof ProxyDataSource proxy) {
+			proxy.getProxyConfig().getQueryListener().addListener(this);
+			return bean;
+		}
+		return ProxyDataSourceBuilder.create(beanName, dataSource).listener(this).build();
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		meterRegistry = meterRegistryProvider.getIfAvailable();
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		long elapsed = execInfo.getElapsedTime();
+		String handler = HandlerNames.current();
+
+		MeterRegistry registry = meterRegistry;
+		if (registry != null) {
+			Timer.builder("nassaupro.sql.statements")
+					.tag("handler", handler)
+					.tag("type", type(queryInfoList))
+					.tag("outcome", execInfo.isSuccess() ? "success" : "error")
+					.register(registry)
+					.record(elapsed, TimeUnit.MILLISECONDS);
+		}
+
+		if (elapsed >= properties.getSlowThreshold().toMillis()) {
+			if (log.isWarnEnabled()) {
+				log.warn("SQL lento: {} ms [{}] {} | parâmetros: {}", elapsed, handler, sql(queryInfoList),
+						parameters(queryInfoList));
+			}
+		} else if (properties.getSampleRate() > 0 && log.isInfoEnabled()
+				&& ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+			log.info("SQL: {} ms [{}] {} | parâmetros: {}", elapsed, handler, sql(queryInfoList),
+					parameters(queryInfoList));
+		}
+	}
+
+	private String sql(List<QueryInfo> queryInfoList) {
+		StringBuilder sql = new StringBuilder();
+		for (QueryInfo queryInfo : queryInfoList) {
+			if (!sql.isEmpty()) {
+				sql.append("; ");
+			}
+			sql.append(queryInfo.getQuery());
+		}
+		if (sql.length() > properties.getMaxSqlLength()) {
+			sql.setLength(properties.getMaxSqlLength());
+			sql.append("...");
+		}
+		return sql.toString();
+	}
+
+	// Parâmetros da primeira linha; num lote, só a quantidade das outras
+	private String parameters(List<QueryInfo> queryInfoList) {
+		StringBuilder summary = new StringBuilder("[");
+		int rows = 0;
+		for (QueryInfo queryInfo : queryInfoList) {
+			List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+			if (parametersList.isEmpty()) {
+				continue;
+			}
+			if (rows == 0) {
+				List<ParameterSetOperation> first = parametersList.get(0);
+				for (int i = 0; i < first.size(); i++) {
+					if (i == properties.getMaxParameters()) {
+						summary.append(", +").append(first.size() - i);
+						break;
+					}
+					if (i > 0) {
+						summary.append(", ");
+					}
+					append(summary, first.get(i));
+				}
+			}
+			rows += parametersList.size();
+		}
+		summary.append(']');
+		if (rows > 1) {
+			summary.append(" (+").append(rows - 1).append(" linhas no lote)");
+		}
+		return summary.toString();
+	}
+
+	private void append(StringBuilder summary, ParameterSetOperation operation) {
+		Object[] args = operation.getArgs();
+		summary.append(args[0]).append('=');
+		if (operation.getMethod().getName().equals("setNull") || args.length < 2 || args[1] == null) {
+			summary.append("null");
+			return;
+		}
+		Object value = args[1];
+		if (properties.isLogParameterValues()) {
+			String text = String.valueOf(value);
+			if (text.length() > MAX_VALUE_LENGTH) {
+				text = text.substring(0, MAX_VALUE_LENGTH) + "...";
+			}
+			summary.append(value instanceof CharSequence ? "'" + text + "'" : text);
+		} else if (value instanceof CharSequence text) {
+			summary.append(value.getClass().getSimpleName()).append('(').append(text.length()).append(')');
+		} else {
+			summary.append(value.getClass().getSimpleName());
+		}
+	}
+
+	// select, insert, update, delete ou other, pela primeira palavra do primeiro comando
+	private static String type(List<QueryInfo> queryInfoList) {
+		if (queryInfoList.isEmpty()) {
+			return "other";
+		}
+		String sql = queryInfoList.get(0).getQuery().stripLeading();
+		int end = 0;
+		while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+			end++;
+		}
+		String keyword = sql.substring(0, end).toLowerCase(Locale.ROOT);
+		return switch (keyword) {
+			case "select", "with" -> "select";
+			case "insert", "update", "delete" -> keyword;
+			default -> "other";
+		};
+	}
+}
@@ -0,0 +1,30 @@
+package com.nassaupro.crud.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "nassaupro.sql-log")
+public class SqlLogProperties {
+
+	// Desligado, o DataSource não é envolvido e nenhum comando é medido
+	private boolean enabled = true;
+
+	// Comandos que levam isso ou mais são sempre logados (WARN)
+	private Duration slowThreshold = Duration.ofMillis(200);
+
+	// Fração dos comandos rápidos que também é logada (INFO), de 0 a 1
+	private double sampleRate = 0.0;
+
+	// Sem isso os parâmetros aparecem só como tipo e tamanho (senhas e CPFs ficam fora do log)
+	private boolean logParameterValues = false;
+
+	private int maxParameters = 20;
+
+	private int maxSqlLength = 2000;
+}
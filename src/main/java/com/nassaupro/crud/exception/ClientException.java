@@ -15,6 +15,10 @@ public class ClientException extends RuntimeException {
 		return new ClientException("O CPF " + cpf + " já está em uso");
 	}
 
+	public static ClientException emailAlreadyExists(String email) {
+		return new ClientException("O e-mail " + email + " já está em uso");
+	}
+
 	public static Exception invalidCpfLength() {
 		return new ClientException("O tamanho do CPF não é válido");
 	}
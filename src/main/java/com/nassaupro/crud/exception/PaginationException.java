@@ -0,0 +1,13 @@
+package com.nassaupro.crud.exception;
+
+public class PaginationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public PaginationException(String message) {
+        super(message);
+    }
+
+    public static PaginationException invalidCursor(String cursor) {
+        return new PaginationException("O cursor de paginação informado não é válido: " + cursor);
+    }
+}
@@ -10,4 +10,32 @@ public class ServiceException extends RuntimeException {
     public static ServiceException serviceNotFound(Long id) {
         return new ServiceException("Serviço não encontrado com o ID: " + id);
     }
+
+    public static ServiceException categoryRequired() {
+        return new ServiceException("Você não pode criar um serviço sem ter uma categoria para vincular");
+    }
+
+    public static ServiceException clientRequired() {
+        return new ServiceException("Você não pode criar um serviço sem ter um usuário para vincular");
+    }
+
+    public static ServiceException categoryNotFound(Long id) {
+        return new ServiceException("Categoria não encontrada com o ID: " + id);
+    }
+
+    public static ServiceException clientNotFound(Long id) {
+        return new ServiceException("Cliente não encontrado com o ID: " + id);
+    }
+
+    public static ServiceException invalidSort(String sort) {
+        return new ServiceException("Ordenação inválida: " + sort + ". Use 'price' ou 'name'");
+    }
+
+    public static ServiceException invalidPriceRange(Double minPrice, Double maxPrice) {
+        return new ServiceException("O preço mínimo (" + minPrice + ") não pode ser maior que o preço máximo (" + maxPrice + ")");
+    }
+
+    public static ServiceException searchTermRequired() {
+        return new ServiceException("Informe o termo de busca no parâmetro 'q'");
+    }
 }
@@ -0,0 +1,26 @@
+package com.nassaupro.crud.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.nassaupro.crud.clientdto.ClientListDTO;
+import com.nassaupro.crud.clientdto.ServiceListDTO;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.model.Service;
+
+/**
+ * Conversão entidade -> DTO escrita à mão: chamadas diretas aos getters, sem
+ * reflexão e sem estado, então uma única instância atende todas as requisições.
+ * Ao adicionar campos nos DTOs, atualize os métodos abaixo.
+ */
+@Component
+public class DtoMapper {
+
+	public ClientListDTO toClientListDTO(Client client) {
+		return new ClientListDTO(client.getId(), client.getFulanoHumberto(), client.getLastName(), client.getEmail(),
+				client.getPhoneNumber());
+	}
+
+	public ServiceListDTO toServiceListDTO(Service service) {
+		return new ServiceListDTO(service.getId(), service.getName(), service.getDescription());
+	}
+}
@@ -0,0 +1,165 @@
+package com.nassaupro.crud.membership;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom com contadores de 4 bits (16 por {@code long}) no lugar de bits, para que
+ * valores também possam ser removidos. {@link #mightContain} nunca responde {@code false}
+ * para um valor adicionado e não removido; {@code true} pode ser falso positivo, com a
+ * taxa escolhida em {@link #create}.
+ * <p>
+ * Um contador que chega a 15 fica travado nesse valor (remover não o decrementa), o que só
+ * pode gerar falsos positivos, nunca falsos negativos. Todas as operações são lock-free.
+ */
+public final class CountingBloomFilter {
+
+	private static final int COUNTERS_PER_WORD = 16;
+
+	private static final long COUNTER_MASK = 0xFL;
+
+	private static final long MAX_COUNT = 15;
+
+	private final AtomicLongArray words;
+
+	private final long counterCount;
+
+	private final int hashCount;
+
+	// Contadores diferentes de zero, para estimar a taxa de falsos positivos atual
+	private final AtomicLong nonZeroCounters = new AtomicLong();
+
+	private CountingBloomFilter(long counterCount, int hashCount) {
+		this.counterCount = counterCount;
+		this.hashCount = hashCount;
+		this.words = new AtomicLongArray(Math.toIntExact((counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+	}
+
+	// Dimensionamento clássico: m = -n ln p / (ln 2)^2 contadores e k = (m / n) ln 2 funções de hash
+	public static CountingBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions < 1) {
+			throw new IllegalArgumentException("expectedInsertions deve ser maior que zero");
+		}
+		if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new IllegalArgumentException("falsePositiveRate deve estar entre 0 e 1");
+		}
+		double ln2 = Math.log(2);
+		long counterCount = Math.max(COUNTERS_PER_WORD,
+				(long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+		int hashCount = Math.max(1, (int) Math.round((double) counterCount / expectedInsertions * ln2));
+		return new CountingBloomFilter(counterCount, hashCount);
+	}
+
+	public void add(CharSequence value) {
+		long hash = hash(value);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			increment(Math.floorMod(h1 + i * h2, counterCount));
+		}
+	}
+
+	// Só deve receber valores que foram adicionados; remover outro valor pode criar falsos negativos
+	public void remove(CharSequence value) {
+		long hash = hash(value);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			decrement(Math.floorMod(h1 + i * h2, counterCount));
+		}
+	}
+
+	public boolean mightContain(CharSequence value) {
+		long hash = hash(value);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			if (counter(Math.floorMod(h1 + i * h2, counterCount)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long memoryBytes() {
+		return (long) words.length() * Long.BYTES;
+	}
+
+	// Probabilidade de um valor ausente cair só em contadores ocupados: (ocupados / m)^k
+	public double estimatedFalsePositiveRate() {
+		return Math.pow((double) nonZeroCounters.get() / counterCount, hashCount);
+	}
+
+	public long getCounterCount() {
+		return counterCount;
+	}
+
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	private long counter(long index) {
+		long word = words.get((int) (index / COUNTERS_PER_WORD));
+		return (word >>> shift(index)) & COUNTER_MASK;
+	}
+
+	private void increment(long index) {
+		int wordIndex = (int) (index / COUNTERS_PER_WORD);
+		int shift = shift(index);
+		while (true) {
+			long word = words.get(wordIndex);
+			long count = (word >>> shift) & COUNTER_MASK;
+			if (count == MAX_COUNT) {
+				return;
+			}
+			if (words.compareAndSet(wordIndex, word, word + (1L << shift))) {
+				if (count == 0) {
+					nonZeroCounters.incrementAndGet();
+				}
+				return;
+			}
+		}
+	}
+
+	private void decrement(long index) {
+		int wordIndex = (int) (index / COUNTERS_PER_WORD);
+		int shift = shift(index);
+		while (true) {
+			long word = words.get(wordIndex);
+			long count = (word >>> shift) & COUNTER_MASK;
+			if (count == 0 || count == MAX_COUNT) {
+				return;
+			}
+			if (words.compareAndSet(wordIndex, word, word - (1L << shift))) {
+				if (count == 1) {
+					nonZeroCounters.decrementAndGet();
+				}
+				return;
+			}
+		}
+	}
+
+	private static int shift(long index) {
+		return (int) (index % COUNTERS_PER_WORD) * 4;
+	}
+
+	// FNV-1a de 64 bits sobre os chars, sem converter a String para bytes
+	private static long hash(CharSequence value) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	// Finalizador do MurmurHash3: espalha os bits para as duas funções de hash do double hashing
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
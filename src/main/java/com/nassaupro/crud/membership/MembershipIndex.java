@@ -0,0 +1,130 @@
+package com.nassaupro.crud.membership;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Filtro de existência de um campo único (CPF, e-mail, nome de categoria). Um "não existe"
+ * do filtro é definitivo e dispensa a consulta; só os "talvez exista" vão ao banco. Até a
+ * primeira carga (ou com o filtro desligado) tudo é "talvez exista".
+ * <p>
+ * O filtro é só um atalho: a unicidade continua garantida pelas constraints do banco, então
+ * um valor gravado por outra instância e ainda fora do filtro é recusado no insert.
+ */
+public class MembershipIndex {
+
+	private final MembershipProperties properties;
+
+	private final Counter absent;
+
+	private final Counter maybePresent;
+
+	private final Counter falsePositives;
+
+	private volatile CountingBloomFilter filter;
+
+	// Diferente de null enquanto o filtro é remontado: valores gravados durante a leitura
+	private List<String> pendingAdds;
+
+	public MembershipIndex(String name, MembershipProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.absent = Counter.builder("nassaupro.membership.checks").tag("index", name).tag("result", "absent")
+				.description("Valores descartados pelo filtro, sem consulta ao banco").register(meterRegistry);
+		this.maybePresent = Counter.builder("nassaupro.membership.checks").tag("index", name)
+				.tag("result", "maybe_present").description("Valores que precisaram de consulta ao banco")
+				.register(meterRegistry);
+		this.falsePositives = Counter.builder("nassaupro.membership.false.positives").tag("index", name)
+				.description("Valores que o filtro deu como possíveis e o banco não tinha").register(meterRegistry);
+		Gauge.builder("nassaupro.membership.memory", this, index -> index.filter == null ? 0 : index.filter.memoryBytes())
+				.tag("index", name).baseUnit("bytes").register(meterRegistry);
+		Gauge.builder("nassaupro.membership.false.positive.rate.estimated", this,
+				index -> index.filter == null ? 1 : index.filter.estimatedFalsePositiveRate()).tag("index", name)
+				.register(meterRegistry);
+	}
+
+	public boolean mightContain(String value) {
+		CountingBloomFilter current = filter;
+		if (current != null && value != null && !current.mightContain(value)) {
+			absent.increment();
+			return false;
+		}
+		maybePresent.increment();
+		return true;
+	}
+
+	// Consulta em lote só com os valores que o filtro não descarta (e nenhuma se ele descartar todos)
+	public Set<String> findExisting(Collection<String> values, Function<Collection<String>, Set<String>> query) {
+		Set<String> candidates = new LinkedHashSet<>();
+		for (String value : values) {
+			if (mightContain(value)) {
+				candidates.add(value);
+			}
+		}
+		if (candidates.isEmpty()) {
+			return Set.of();
+		}
+		Set<String> existing = query.apply(candidates);
+		falsePositives.increment(candidates.size() - existing.size());
+		return existing;
+	}
+
+	public synchronized void add(String value) {
+		if (value == null) {
+			return;
+		}
+		if (filter != null) {
+			filter.add(value);
+		}
+		if (pendingAdds != null) {
+			pendingAdds.add(value);
+		}
+	}
+
+	// Cada remove deve corresponder a um add do mesmo valor, senão os contadores de outros valores
+	// caem e o filtro passa a dar falsos negativos. Remoções durante a remontagem não são
+	// reaplicadas: no pior caso sobra um falso positivo
+	public synchronized void remove(String value) {
+		if (value != null && filter != null) {
+			filter.remove(value);
+		}
+	}
+
+	public void rebuild(Stream<String> values) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		synchronized (this) {
+			pendingAdds = new ArrayList<>();
+		}
+
+		CountingBloomFilter rebuilt = CountingBloomFilter.create(properties.getExpectedInsertions(),
+				properties.getFalsePositiveRate());
+		try {
+			values.forEach(rebuilt::add);
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				pendingAdds = null;
+			}
+			throw e;
+		}
+
+		synchronized (this) {
+			pendingAdds.forEach(rebuilt::add);
+			filter = rebuilt;
+			pendingAdds = null;
+		}
+	}
+
+	public boolean isLoaded() {
+		return filter != null;
+	}
+}
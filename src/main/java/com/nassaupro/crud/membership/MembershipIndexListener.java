@@ -0,0 +1,109 @@
+package com.nassaupro.crud.membership;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.model.Client;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Leva as gravações de {@link Client} e {@link Category} (create, bulk, update e delete)
+ * para os {@link MembershipIndexes}, depois do commit. Cada valor gravado entra no filtro
+ * uma vez e sai uma vez: o valor como está no banco fica na própria entidade
+ * ({@code persisted*}, preenchido no load e a cada gravação), então o update tira o valor
+ * antigo e põe o novo, e o delete tira o que foi gravado.
+ */
+public class MembershipIndexListener {
+
+	// @Lazy: o Hibernate cria o listener junto com o EntityManagerFactory, antes dos repositórios existirem
+	@Lazy
+	@Autowired
+	private MembershipIndexes membershipIndexes;
+
+	@PostLoad
+	public void afterLoad(Object entity) {
+		if (entity instanceof Client client) {
+			client.setPersistedCpf(client.getCpf());
+			client.setPersistedEmail(client.getEmail());
+		} else if (entity instanceof Category category) {
+			category.setPersistedName(category.getName());
+		}
+	}
+
+	@PostPersist
+	public void afterPersist(Object entity) {
+		if (entity instanceof Client client) {
+			String cpf = client.getCpf();
+			String email = client.getEmail();
+			afterLoad(client);
+			afterCommit(() -> {
+				membershipIndexes.getClientCpfs().add(cpf);
+				membershipIndexes.getClientEmails().add(email);
+			});
+		} else if (entity instanceof Category category) {
+			String name = category.getName();
+			afterLoad(category);
+			afterCommit(() -> membershipIndexes.getCategoryNames().add(name));
+		}
+	}
+
+	@PostUpdate
+	public void afterUpdate(Object entity) {
+		if (entity instanceof Client client) {
+			String oldCpf = client.getPersistedCpf();
+			String oldEmail = client.getPersistedEmail();
+			String cpf = client.getCpf();
+			String email = client.getEmail();
+			afterLoad(client);
+			afterCommit(() -> {
+				membershipIndexes.getClientCpfs().remove(oldCpf);
+				membershipIndexes.getClientCpfs().add(cpf);
+				membershipIndexes.getClientEmails().remove(oldEmail);
+				membershipIndexes.getClientEmails().add(email);
+			});
+		} else if (entity instanceof Category category) {
+			String oldName = category.getPersistedName();
+			String name = category.getName();
+			afterLoad(category);
+			afterCommit(() -> {
+				membershipIndexes.getCategoryNames().remove(oldName);
+				membershipIndexes.getCategoryNames().add(name);
+			});
+		}
+	}
+
+	@PostRemove
+	public void afterRemove(Object entity) {
+		if (entity instanceof Client client) {
+			String cpf = client.getPersistedCpf();
+			String email = client.getPersistedEmail();
+			afterCommit(() -> {
+				membershipIndexes.getClientCpfs().remove(cpf);
+				membershipIndexes.getClientEmails().remove(email);
+			});
+		} else if (entity instanceof Category category) {
+			String name = category.getPersistedName();
+			afterCommit(() -> membershipIndexes.getCategoryNames().remove(name));
+		}
+	}
+
+	private static void afterCommit(Runnable change) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			change.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				change.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,127 @@
+package com.nassaupro.crud.membership;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nassaupro.crud.repository.CategoryRepository;
+import com.nassaupro.crud.repository.ClientRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Filtros de existência dos campos únicos, carregados na subida por uma leitura em stream
+ * de cada coluna e remontados a cada {@code nassaupro.membership.rebuild-interval}. Entre
+ * as remontagens as gravações chegam pelo {@link MembershipIndexListener}.
+ */
+@Component
+public class MembershipIndexes implements DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(MembershipIndexes.class);
+
+	@Autowired
+	private MembershipProperties properties;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	private MembershipIndex clientCpfs;
+
+	private MembershipIndex clientEmails;
+
+	private MembershipIndex categoryNames;
+
+	private ScheduledExecutorService rebuilds;
+
+	@PostConstruct
+	void createIndexes() {
+		clientCpfs = new MembershipIndex("clients.cpf", properties, meterRegistry);
+		clientEmails = new MembershipIndex("clients.email", properties, meterRegistry);
+		categoryNames = new MembershipIndex("categories.name", properties, meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		rebuildAll();
+
+		long period = properties.getRebuildInterval().toMillis();
+		if (period > 0) {
+			rebuilds = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "membership-rebuild");
+				thread.setDaemon(true);
+				return thread;
+			});
+			rebuilds.scheduleWithFixedDelay(this::rebuildAllQuietly, period, period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public void rebuildAll() {
+		rebuild(clientCpfs, clientRepository::streamAllCpfs);
+		rebuild(clientEmails, clientRepository::streamAllEmails);
+		rebuild(categoryNames, categoryRepository::streamAllNames);
+	}
+
+	public MembershipIndex getClientCpfs() {
+		return clientCpfs;
+	}
+
+	public MembershipIndex getClientEmails() {
+		return clientEmails;
+	}
+
+	public MembershipIndex getCategoryNames() {
+		return categoryNames;
+	}
+
+	@Override
+	public void destroy() {
+		if (rebuilds != null) {
+			rebuilds.shutdownNow();
+		}
+	}
+
+	// O stream do Spring Data precisa de uma transação aberta enquanto é lido
+	private void rebuild(MembershipIndex index, Supplier<Stream<String>> values) {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readOnly.executeWithoutResult(status -> {
+			try (Stream<String> stream = values.get()) {
+				index.rebuild(stream);
+			}
+		});
+	}
+
+	// Uma falha mantém o filtro anterior, que continua correto para os valores que já conhecia
+	private void rebuildAllQuietly() {
+		try {
+			rebuildAll();
+		} catch (RuntimeException e) {
+			log.warn("Não foi possível remontar os filtros de existência: {}", e.getMessage());
+		}
+	}
+}
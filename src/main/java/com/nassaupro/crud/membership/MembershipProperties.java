@@ -0,0 +1,25 @@
+package com.nassaupro.crud.membership;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "nassaupro.membership")
+public class MembershipProperties {
+
+	// Desligado, todo valor é tratado como "talvez exista" e a consulta sempre vai ao banco
+	private boolean enabled = true;
+
+	// Valores por filtro para os quais a taxa de falsos positivos é garantida (define a memória)
+	private long expectedInsertions = 100_000;
+
+	private double falsePositiveRate = 0.01;
+
+	// Remontagem a partir do banco: limpa valores alterados/removidos e os gravados por outras instâncias
+	private Duration rebuildInterval = Duration.ofHours(1);
+}
@@ -1,34 +1,47 @@
 package com.nassaupro.crud.model;
 
 
+import java.time.Instant;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.validator.constraints.Length;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nassaupro.crud.membership.MembershipIndexListener;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
 @Entity
 @Data
-@Table(name = "CATEGORIES")
+@EntityListeners(MembershipIndexListener.class)
+@Table(name = "CATEGORIES", uniqueConstraints = @UniqueConstraint(name = "UK_CATEGORIES_NAME", columnNames = "CATEGORY_NAME"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 public class Category {
 
 	@Schema(name = "id", example = "1")
     @Id
     @Column(name = "CATEGORY_ID", nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "CATEGORIES_SEQ", allocationSize = 50)
     private Long id;
 
 	@Schema(name = "name", example = "Fitness")
@@ -47,6 +60,17 @@ public class Category {
     @JsonIgnore
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
     private List<Service> services;
+
+    // Versão da linha usada nos ETags; preenchida pelo Hibernate a cada insert/update
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "UPDATED_AT")
+    private Instant updatedAt;
+
+    // Nome como está no banco (transient: não é coluna); o MembershipIndexListener usa para
+    // tirar do filtro o nome antigo num update
+    @JsonIgnore
+    private transient String persistedName;
 }
 
 
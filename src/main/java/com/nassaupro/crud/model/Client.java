@@ -1,37 +1,49 @@
 package com.nassaupro.crud.model;
 
+import java.time.Instant;
 import java.util.List;
 
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.validator.constraints.Length;
-import org.hibernate.validator.constraints.br.CPF;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nassaupro.crud.coalescing.CoalescedLookupListener;
+import com.nassaupro.crud.membership.MembershipIndexListener;
+import com.nassaupro.crud.validation.Cpf;
+import com.nassaupro.crud.validation.EmailAddress;
+import com.nassaupro.crud.validation.OnlyDigits;
+import com.nassaupro.crud.validation.OnlyLetters;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.validation.constraints.Email;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 @Entity
 @Data
-@Table(name = "CLIENTS")
+@EntityListeners({ MembershipIndexListener.class, CoalescedLookupListener.class })
+// Nomes fixos: os controllers identificam o valor repetido pelo nome da constraint
+@Table(name = "CLIENTS", uniqueConstraints = { @UniqueConstraint(name = "UK_CLIENTS_CPF", columnNames = "CPF"),
+		@UniqueConstraint(name = "UK_CLIENTS_EMAIL", columnNames = "EMAIL") })
 public class Client {
 
 	@Schema(name = "id", example = "1")
 	@Id
 	@Column(name = "CLIENT_ID", nullable = false)
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clients_seq")
+	@SequenceGenerator(name = "clients_seq", sequenceName = "CLIENTS_SEQ", allocationSize = 50)
 	private Long id;
 
 	@JsonIgnore
@@ -42,18 +54,18 @@ public class Client {
 	@Column(name = "F_NAME", columnDefinition = "VARCHAR(40)", nullable = false)
 	@NotBlank(message = "O nome não pode estar nulo ou em branco")
 	@Length(min = 3, max = 40, message = "O Nome deve conter entre {min} e {max} caracteres")
-	@Pattern(regexp = "^[a-zA-ZúÚíÍóÓýÝéÉáÁçÇãÃõÕôÔêÊûÛ\\s]+$", message = "O nome só deve conter letras")
+	@OnlyLetters(message = "O nome só deve conter letras")
 	private String fulanoHumberto;
 
 	@Schema(name = "lastName", example = "Meloso")
 	@Column(name = "L_NAME", columnDefinition = "VARCHAR(40)", nullable = false)
 	@NotBlank(message = "O nome não pode estar nulo ou em branco")
 	@Length(min = 3, max = 40, message = "O sobrenome deve conter entre {min} e {max} caracteres")
-	@Pattern(regexp = "^[a-zA-ZúÚíÍóÓýÝéÉáÁçÇãÃõÕôÔêÊûÛ\\s]+$", message = "O sobrenome só deve conter letras")
+	@OnlyLetters(message = "O sobrenome só deve conter letras")
 	private String lastName;
 
 	@Schema(name = "email", example = "melo.meloso@gmail.com")
-	@Email
+	@EmailAddress
 	@NotBlank(message = "O Email não pode estar nulo ou em branco")
 	@Column(name = "EMAIL", nullable = false)
 	private String email;
@@ -64,15 +76,15 @@ public class Client {
 	private String password;
 
 	@Schema(name = "cpf", example = "69475441069")
-	@CPF(message = "O CPF informado não é válido")
-	@Column(name = "CPF", columnDefinition = "VARCHAR(11)", unique = true)
-	@Pattern(regexp = "^[0-9]+$", message = "O CPF deve ser composto apenas por números, sem pontos ou espaços em branco")
+	@Cpf(message = "O CPF informado não é válido")
+	@Column(name = "CPF", columnDefinition = "VARCHAR(11)")
+	@OnlyDigits(message = "O CPF deve ser composto apenas por números, sem pontos ou espaços em branco")
 	private String cpf;
 
 	@Schema(name = "phoneNumber", example = "81912345678")
 	@NotBlank(message = "O celular não pode estar nulo ou em branco")
 	@Column(name = "PHONE_NUMBER", nullable = false)
-	@Pattern(regexp = "^[0-9]+$", message = "O celular só deve conter números")
+	@OnlyDigits(message = "O celular só deve conter números")
 	@Length(min = 11, max = 11, message = "O celular deve conter 11 números")
 	private String phoneNumber;
 
@@ -86,4 +98,18 @@ public class Client {
 	@Column(name = "USER_TYPE", nullable = false)
 	private UserType userType;
 
+	// Versão da linha usada nos ETags; preenchida pelo Hibernate a cada insert/update
+	@JsonIgnore
+	@UpdateTimestamp
+	@Column(name = "UPDATED_AT")
+	private Instant updatedAt;
+
+	// CPF e e-mail como estão no banco (transient: não é coluna); o MembershipIndexListener
+	// usa para tirar do filtro os valores antigos num update
+	@JsonIgnore
+	private transient String persistedCpf;
+
+	@JsonIgnore
+	private transient String persistedEmail;
+
 }
@@ -1,29 +1,47 @@
 package com.nassaupro.crud.model;
 
+import java.time.Instant;
+
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.validator.constraints.Length;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nassaupro.crud.coalescing.CoalescedLookupListener;
+import com.nassaupro.crud.search.ServiceIndexListener;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
 @Data
-@Table(name = "SERVICES")
+@Table(name = "SERVICES", indexes = {
+        // Filtros de /services/search: categoria com faixa de preço, e cliente
+        @Index(name = "IDX_SERVICES_CATEGORY_PRICE", columnList = "CATEGORY_ID, SERVICE_PRICE"),
+        @Index(name = "IDX_SERVICES_CLIENT", columnList = "CLIENT_ID") })
+@EntityListeners({ ServiceIndexListener.class, CoalescedLookupListener.class })
 public class Service {
 
 	@Schema(name = "id", example = "1")
     @Id
     @Column(name = "SERVICE_ID", nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "services_seq")
+    @SequenceGenerator(name = "services_seq", sequenceName = "SERVICES_SEQ", allocationSize = 50)
     private Long id;
 
     @Schema(name = "name", example = "Serviço de Personal Trainer")
@@ -37,7 +55,10 @@ public class Service {
     @Length(max = 500, message = "A descrição do serviço não pode conter mais de {max} caracteres")
     private String description;
 
-    @ManyToOne
+    // LAZY: listagens e exportação usam só as FKs; carregue a categoria apenas quando a resposta precisar dela
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CATEGORY_ID", nullable = false)
     private Category category;
 
@@ -46,7 +67,15 @@ public class Service {
     @DecimalMin(value = "0.0", message = "O preço do serviço não pode ser negativo")
     private double price;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CLIENT_ID", nullable = false)
     private Client client;
+
+    // Versão da linha usada nos ETags; preenchida pelo Hibernate a cada insert/update
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "UPDATED_AT")
+    private Instant updatedAt;
 }
@@ -0,0 +1,47 @@
+package com.nassaupro.crud.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.nassaupro.crud.exception.PaginationException;
+
+/**
+ * Token opaco da paginação por keyset: guarda o ID da última linha entregue
+ * para que a próxima página comece logo depois dela ({@code WHERE ID > :lastId}).
+ */
+public final class KeysetCursor {
+
+	private static final KeysetCursor FIRST_PAGE = new KeysetCursor(0L);
+
+	private final long lastId;
+
+	private KeysetCursor(long lastId) {
+		this.lastId = lastId;
+	}
+
+	public long getLastId() {
+		return lastId;
+	}
+
+	public static String encode(Long lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	// Cursor ausente significa primeira página
+	public static KeysetCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return FIRST_PAGE;
+		}
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			long lastId = Long.parseLong(value);
+			if (lastId < 0) {
+				throw PaginationException.invalidCursor(token);
+			}
+			return new KeysetCursor(lastId);
+		} catch (IllegalArgumentException e) {
+			throw PaginationException.invalidCursor(token);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.nassaupro.crud.pagination;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "nassaupro.pagination")
+public class PaginationProperties {
+
+	// Tamanho usado quando o cliente não informa o parâmetro "size"
+	private int defaultSize = 20;
+
+	// Limite imposto pelo servidor, independente do que o cliente pedir
+	private int maxSize = 100;
+
+	public int resolveSize(Integer requestedSize) {
+		if (requestedSize == null) {
+			return defaultSize;
+		}
+		return Math.max(1, Math.min(requestedSize, maxSize));
+	}
+}
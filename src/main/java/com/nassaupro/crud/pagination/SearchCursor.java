@@ -0,0 +1,71 @@
+package com.nassaupro.crud.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.nassaupro.crud.exception.PaginationException;
+
+/**
+ * Token opaco da paginação por keyset em buscas ordenadas por outra coluna: guarda a
+ * ordenação, o valor dela e o ID da última linha entregue, para que a próxima página
+ * comece em {@code (valor, ID) > (:lastValue, :lastId)}. O ID desempata valores iguais.
+ */
+public final class SearchCursor {
+
+	private final String token;
+
+	private final String sort;
+
+	private final long lastId;
+
+	private final String lastValue;
+
+	private SearchCursor(String token, String sort, long lastId, String lastValue) {
+		this.token = token;
+		this.sort = sort;
+		this.lastId = lastId;
+		this.lastValue = lastValue;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public String getSort() {
+		return sort;
+	}
+
+	public long getLastId() {
+		return lastId;
+	}
+
+	public String getLastValue() {
+		return lastValue;
+	}
+
+	public static String encode(String sort, String lastValue, Long lastId) {
+		String value = sort + "|" + lastId + "|" + lastValue;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// Cursor ausente significa primeira página; um cursor de outra ordenação não vale
+	public static SearchCursor decode(String token, String sort) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = value.split("\\|", 3);
+			if (parts.length != 3 || !parts[0].equals(sort)) {
+				throw PaginationException.invalidCursor(token);
+			}
+			long lastId = Long.parseLong(parts[1]);
+			if (lastId < 0) {
+				throw PaginationException.invalidCursor(token);
+			}
+			return new SearchCursor(token, parts[0], lastId, parts[2]);
+		} catch (IllegalArgumentException e) {
+			throw PaginationException.invalidCursor(token);
+		}
+	}
+}
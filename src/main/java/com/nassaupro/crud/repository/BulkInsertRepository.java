@@ -0,0 +1,57 @@
+package com.nassaupro.crud.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Repository
+public class BulkInsertRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+	private int batchSize;
+
+	// Persiste em lotes do tamanho do batch JDBC e limpa o contexto a cada lote,
+	// assim a memória não cresce com o tamanho da carga
+	@Transactional
+	public <T> int persistAll(List<T> entities) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String state = "SUCCESS";
+		String exception = "None";
+		try {
+			for (int i = 0; i < entities.size(); i++) {
+				entityManager.persist(entities.get(i));
+
+				if ((i + 1) % batchSize == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+			entityManager.flush();
+			entityManager.clear();
+			return entities.size();
+		} catch (RuntimeException e) {
+			state = "ERROR";
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			// Mesmo timer e tags que o Spring Data usa nos repositórios JPA
+			sample.stop(Timer.builder("spring.data.repository.invocations")
+					.tag("repository", "BulkInsertRepository").tag("method", "persistAll").tag("state", state)
+					.tag("exception", exception).register(meterRegistry));
+		}
+	}
+}
@@ -1,11 +1,48 @@
 package com.nassaupro.crud.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.nassaupro.crud.clientdto.RowVersionDTO;
 import com.nassaupro.crud.model.Category;
 
+import jakarta.persistence.QueryHint;
+
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
-	boolean existsByName(String name);
+	// Categorias quase nunca mudam: os resultados ficam no cache de consultas do Hibernate,
+	// invalidado automaticamente a cada insert, update ou delete em CATEGORIES.
+	// Paginação por keyset: usa o índice da PK em vez de OFFSET
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "category-queries") })
+	List<Category> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	// Só (ID, UPDATED_AT) da mesma página, para o ETag
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "category-queries") })
+	@Query("select new com.nassaupro.crud.clientdto.RowVersionDTO(c.id, c.updatedAt) "
+			+ "from Category c where c.id > :afterId order by c.id")
+	List<RowVersionDTO> findVersionPage(@Param("afterId") Long afterId, Pageable pageable);
+
+	// Consultas em lote usadas pelo cadastro em massa: uma ida ao banco para todo o array
+	@Query("select c.name from Category c where c.name in :names")
+	Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+	@Query("select c.id from Category c where c.id in :ids")
+	Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+	// Leitura em stream de todos os nomes para montar o filtro de MembershipIndexes
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select c.name from Category c")
+	Stream<String> streamAllNames();
 
 }
@@ -1,12 +1,45 @@
 package com.nassaupro.crud.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.nassaupro.crud.clientdto.ClientListDTO;
 import com.nassaupro.crud.model.Client;
 
+import jakarta.persistence.QueryHint;
+
 public interface ClientRepository extends JpaRepository<Client, Long> {
 
-	boolean existsByEmail(String email);
+	// Projeção direto no DTO (sem senha, CPF ou serviços) paginada por keyset
+	@Query("select new com.nassaupro.crud.clientdto.ClientListDTO(c.id, c.fulanoHumberto, c.lastName, c.email, c.phoneNumber) "
+			+ "from Client c where c.id > :afterId order by c.id")
+	List<ClientListDTO> findListPage(@Param("afterId") Long afterId, Pageable pageable);
+
+	// Consultas em lote usadas pelo cadastro em massa: uma ida ao banco para todo o array
+	@Query("select c.cpf from Client c where c.cpf in :cpfs")
+	Set<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+
+	@Query("select c.email from Client c where c.email in :emails")
+	Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+	@Query("select c.id from Client c where c.id in :ids")
+	Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+	// Leituras em stream da coluna inteira para montar os filtros de MembershipIndexes
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select c.cpf from Client c where c.cpf is not null")
+	Stream<String> streamAllCpfs();
 
-	boolean existsByCpf(String cpf);
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select c.email from Client c")
+	Stream<String> streamAllEmails();
 }
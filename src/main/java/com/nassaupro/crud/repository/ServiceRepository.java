@@ -1,9 +1,39 @@
 package com.nassaupro.crud.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.nassaupro.crud.clientdto.RowVersionDTO;
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.clientdto.ServiceListDTO;
 import com.nassaupro.crud.model.Service;
 
-public interface ServiceRepository extends JpaRepository<Service, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface ServiceRepository extends JpaRepository<Service, Long>, ServiceSearchRepository {
+
+	// Projeção direto no DTO, sem carregar categoria e cliente, paginada por keyset
+	@Query("select new com.nassaupro.crud.clientdto.ServiceListDTO(s.id, s.name, s.description) "
+			+ "from Service s where s.id > :afterId order by s.id")
+	List<ServiceListDTO> findListPage(@Param("afterId") Long afterId, Pageable pageable);
+
+	// Só (ID, UPDATED_AT) da mesma página, para o ETag
+	@Query("select new com.nassaupro.crud.clientdto.RowVersionDTO(s.id, s.updatedAt) "
+			+ "from Service s where s.id > :afterId order by s.id")
+	List<RowVersionDTO> findVersionPage(@Param("afterId") Long afterId, Pageable pageable);
+
+	// Leitura por cursor para a exportação: o driver traz as linhas em blocos do fetch size
+	// e a projeção não passa pelo contexto de persistência, então nada se acumula em memória
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select new com.nassaupro.crud.clientdto.ServiceDetailDTO(s.id, s.name, s.description, s.price, s.category.id, s.client.id) "
+			+ "from Service s order by s.id")
+	Stream<ServiceDetailDTO> streamAllDetails();
 
 }
@@ -0,0 +1,14 @@
+package com.nassaupro.crud.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.model.Service;
+
+// Fragmento do ServiceRepository com a busca dinâmica via Criteria (ServiceSearchRepositoryImpl)
+public interface ServiceSearchRepository {
+
+	List<ServiceDetailDTO> search(Specification<Service> filters, ServiceSearchSort sort, int limit);
+}
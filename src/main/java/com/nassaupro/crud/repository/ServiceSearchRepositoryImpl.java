@@ -0,0 +1,41 @@
+package com.nassaupro.crud.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.model.Service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class ServiceSearchRepositoryImpl implements ServiceSearchRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// Projeção direto no DTO com LIMIT; ao contrário do findAll(spec, pageable),
+	// não dispara o count(*) de uma Page
+	@Override
+	public List<ServiceDetailDTO> search(Specification<Service> filters, ServiceSearchSort sort, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<ServiceDetailDTO> query = cb.createQuery(ServiceDetailDTO.class);
+		Root<Service> root = query.from(Service.class);
+
+		query.select(cb.construct(ServiceDetailDTO.class, root.get("id"), root.get("name"), root.get("description"),
+				root.get("price"), root.get("category").get("id"), root.get("client").get("id")));
+
+		Predicate predicate = filters.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		query.orderBy(cb.asc(root.get(sort.getAttribute())), cb.asc(root.get("id")));
+
+		return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+	}
+}
@@ -0,0 +1,34 @@
+package com.nassaupro.crud.repository;
+
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.exception.ServiceException;
+
+// Ordenações aceitas por /services/search; o ID entra sempre como desempate
+public enum ServiceSearchSort {
+	PRICE("price"),
+	NAME("name");
+
+	private final String attribute;
+
+	ServiceSearchSort(String attribute) {
+		this.attribute = attribute;
+	}
+
+	public String getAttribute() {
+		return attribute;
+	}
+
+	// Valor da coluna de ordenação que vai para o cursor da próxima página
+	public String valueOf(ServiceDetailDTO service) {
+		return this == PRICE ? Double.toString(service.getPrice()) : service.getName();
+	}
+
+	public static ServiceSearchSort from(String sort) {
+		for (ServiceSearchSort value : values()) {
+			if (value.attribute.equalsIgnoreCase(sort)) {
+				return value;
+			}
+		}
+		throw ServiceException.invalidSort(sort);
+	}
+}
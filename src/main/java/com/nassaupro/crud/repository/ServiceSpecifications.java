@@ -0,0 +1,66 @@
+package com.nassaupro.crud.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nassaupro.crud.exception.PaginationException;
+import com.nassaupro.crud.model.Service;
+import com.nassaupro.crud.pagination.SearchCursor;
+
+import jakarta.persistence.criteria.Path;
+
+/**
+ * Filtros opcionais da busca de serviços. Cada método devolve {@code null} quando o
+ * filtro não foi informado, e {@link Specification#and} simplesmente o ignora; assim só
+ * os filtros pedidos entram no WHERE e o banco pode usar os índices de SERVICES.
+ */
+public final class ServiceSpecifications {
+
+	private ServiceSpecifications() {
+	}
+
+	// category.id e client.id viram a própria FK, sem join com CATEGORIES ou CLIENTS
+	public static Specification<Service> hasCategory(Long categoryId) {
+		return categoryId == null ? null : (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+	}
+
+	public static Specification<Service> hasClient(Long clientId) {
+		return clientId == null ? null : (root, query, cb) -> cb.equal(root.get("client").get("id"), clientId);
+	}
+
+	public static Specification<Service> priceAtLeast(Double minPrice) {
+		return minPrice == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+	}
+
+	public static Specification<Service> priceAtMost(Double maxPrice) {
+		return maxPrice == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+	}
+
+	// Linhas depois do cursor na ordem (coluna de ordenação, ID)
+	public static Specification<Service> after(ServiceSearchSort sort, SearchCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return switch (sort) {
+			case PRICE -> after(sort.getAttribute(), parsePrice(cursor), cursor.getLastId());
+			case NAME -> after(sort.getAttribute(), cursor.getLastValue(), cursor.getLastId());
+		};
+	}
+
+	private static <Y extends Comparable<? super Y>> Specification<Service> after(String attribute, Y lastValue,
+			long lastId) {
+		return (root, query, cb) -> {
+			Path<Y> value = root.get(attribute);
+			Path<Long> id = root.get("id");
+			return cb.or(cb.greaterThan(value, lastValue),
+					cb.and(cb.equal(value, lastValue), cb.greaterThan(id, lastId)));
+		};
+	}
+
+	private static Double parsePrice(SearchCursor cursor) {
+		try {
+			return Double.valueOf(cursor.getLastValue());
+		} catch (NumberFormatException e) {
+			throw PaginationException.invalidCursor(cursor.getToken());
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.nassaupro.crud.repository;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Nomes das constraints únicas declaradas nas entidades. Os endpoints de cadastro fazem um
+ * único insert e, quando ele falha, usam {@link #isViolated} para saber qual valor repetido
+ * causou o erro, em vez de consultar o banco antes (o que também deixava passar inserts
+ * concorrentes).
+ */
+public final class UniqueConstraints {
+
+	public static final String CLIENTS_CPF = "UK_CLIENTS_CPF";
+
+	public static final String CLIENTS_EMAIL = "UK_CLIENTS_EMAIL";
+
+	public static final String CATEGORIES_NAME = "UK_CATEGORIES_NAME";
+
+	private UniqueConstraints() {
+	}
+
+	// O PostgreSQL informa o nome em minúsculas e o H2 dentro da descrição do índice,
+	// por isso a comparação é por "contém", sem diferenciar maiúsculas
+	public static boolean isViolated(DataIntegrityViolationException e, String constraint) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			String text = null;
+			if (cause instanceof ConstraintViolationException violation) {
+				text = violation.getConstraintName();
+			} else if (cause instanceof SQLException) {
+				text = cause.getMessage();
+			}
+			if (text != null && text.toUpperCase(Locale.ROOT).contains(constraint)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
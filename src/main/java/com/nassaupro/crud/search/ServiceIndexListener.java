@@ -0,0 +1,53 @@
+package com.nassaupro.crud.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nassaupro.crud.model.Service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Leva as gravações de {@link Service} (create, bulk, update e delete) para o
+ * {@link ServiceTextIndex}. A mudança só entra no índice depois do commit, para que
+ * um rollback não deixe resultados fantasmas na busca.
+ */
+public class ServiceIndexListener {
+
+	// @Lazy: o Hibernate cria o listener junto com o EntityManagerFactory, antes do repositório existir
+	@Lazy
+	@Autowired
+	private ServiceTextIndex serviceTextIndex;
+
+	@PostPersist
+	@PostUpdate
+	public void afterSave(Service service) {
+		Long id = service.getId();
+		String name = service.getName();
+		String description = service.getDescription();
+		afterCommit(() -> serviceTextIndex.put(id, name, description));
+	}
+
+	@PostRemove
+	public void afterRemove(Service service) {
+		Long id = service.getId();
+		afterCommit(() -> serviceTextIndex.remove(id));
+	}
+
+	private static void afterCommit(Runnable change) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			change.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				change.run();
+			}
+		});
+	}
+}
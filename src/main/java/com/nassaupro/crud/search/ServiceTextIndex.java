@@ -0,0 +1,215 @@
+package com.nassaupro.crud.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.clientdto.ServiceListDTO;
+import com.nassaupro.crud.clientdto.ServiceTextHitDTO;
+import com.nassaupro.crud.exception.PaginationException;
+import com.nassaupro.crud.pagination.SearchCursor;
+import com.nassaupro.crud.repository.ServiceRepository;
+
+/**
+ * Índice invertido em memória sobre nome e descrição dos serviços, ranqueado por BM25.
+ * A busca só percorre as listas de postings dos termos da consulta, sem ir ao banco.
+ * O índice é montado na subida a partir de uma leitura em stream da tabela e depois
+ * atualizado a cada gravação pelo {@link ServiceIndexListener}.
+ */
+@Component
+public class ServiceTextIndex {
+
+	// Ordenação usada no cursor de /services/search/text
+	public static final String CURSOR_SORT = "score";
+
+	// Uma palavra do nome pesa como três da descrição
+	private static final int NAME_WEIGHT = 3;
+
+	private static final double K1 = 1.2;
+
+	private static final double B = 0.75;
+
+	private static final Comparator<Map.Entry<Long, Double>> RANKING = Map.Entry.<Long, Double>comparingByValue()
+			.reversed().thenComparing(Map.Entry.<Long, Double>comparingByKey());
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private Index index = new Index();
+
+	// Diferente de null enquanto o índice é reconstruído: mudanças a reaplicar no novo índice
+	private List<Consumer<Index>> pendingChanges;
+
+	@Transactional(readOnly = true)
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		withWriteLock(() -> pendingChanges = new ArrayList<>());
+
+		Index rebuilt = new Index();
+		try (Stream<ServiceDetailDTO> services = serviceRepository.streamAllDetails()) {
+			services.forEach(service -> rebuilt.put(service.getId(), service.getName(), service.getDescription()));
+		} catch (RuntimeException e) {
+			withWriteLock(() -> pendingChanges = null);
+			throw e;
+		}
+
+		// Gravações feitas durante a leitura são reaplicadas; put e remove são idempotentes
+		withWriteLock(() -> {
+			pendingChanges.forEach(change -> change.accept(rebuilt));
+			index = rebuilt;
+			pendingChanges = null;
+		});
+	}
+
+	public void put(Long id, String name, String description) {
+		apply(target -> target.put(id, name, description));
+	}
+
+	public void remove(Long id) {
+		apply(target -> target.remove(id));
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return index.documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Resultados em ordem de relevância (score decrescente, ID como desempate) depois do cursor
+	public List<ServiceTextHitDTO> search(String query, SearchCursor after, int limit) {
+		Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+		Double afterScore = after == null ? null : parseScore(after);
+
+		lock.readLock().lock();
+		try {
+			int documentCount = index.documents.size();
+			if (documentCount == 0 || terms.isEmpty()) {
+				return List.of();
+			}
+			double averageLength = (double) index.totalLength / documentCount;
+
+			Map<Long, Double> scores = new HashMap<>();
+			for (String term : terms) {
+				Map<Long, Integer> postings = index.postings.get(term);
+				if (postings == null) {
+					continue;
+				}
+				double idf = Math.log(1 + (documentCount - postings.size() + 0.5) / (postings.size() + 0.5));
+				postings.forEach((id, frequency) -> {
+					double length = index.documents.get(id).length();
+					double saturation = frequency * (K1 + 1)
+							/ (frequency + K1 * (1 - B + B * length / averageLength));
+					scores.merge(id, idf * saturation, Double::sum);
+				});
+			}
+
+			return scores.entrySet().stream()
+					.filter(hit -> afterScore == null || hit.getValue() < afterScore
+							|| (hit.getValue().equals(afterScore) && hit.getKey() > after.getLastId()))
+					.sorted(RANKING)
+					.limit(limit)
+					.map(hit -> {
+						ServiceListDTO service = index.documents.get(hit.getKey()).service();
+						return new ServiceTextHitDTO(service.getId(), service.getName(), service.getDescription(),
+								hit.getValue());
+					})
+					.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void apply(Consumer<Index> change) {
+		withWriteLock(() -> {
+			change.accept(index);
+			if (pendingChanges != null) {
+				pendingChanges.add(change);
+			}
+		});
+	}
+
+	private void withWriteLock(Runnable action) {
+		lock.writeLock().lock();
+		try {
+			action.run();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static Double parseScore(SearchCursor cursor) {
+		try {
+			return Double.valueOf(cursor.getLastValue());
+		} catch (NumberFormatException e) {
+			throw PaginationException.invalidCursor(cursor.getToken());
+		}
+	}
+
+	private record Document(ServiceListDTO service, Set<String> terms, int length) {
+	}
+
+	private static final class Index {
+
+		// termo -> (ID do serviço -> frequência ponderada do termo)
+		private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+		private final Map<Long, Document> documents = new HashMap<>();
+
+		private long totalLength;
+
+		void put(Long id, String name, String description) {
+			remove(id);
+
+			Map<String, Integer> frequencies = new HashMap<>();
+			for (String term : TextAnalyzer.tokenize(name)) {
+				frequencies.merge(term, NAME_WEIGHT, Integer::sum);
+			}
+			for (String term : TextAnalyzer.tokenize(description)) {
+				frequencies.merge(term, 1, Integer::sum);
+			}
+			int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+			documents.put(id, new Document(new ServiceListDTO(id, name, description), frequencies.keySet(), length));
+			totalLength += length;
+			frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+					.put(id, frequency));
+		}
+
+		void remove(Long id) {
+			Document document = documents.remove(id);
+			if (document == null) {
+				return;
+			}
+			totalLength -= document.length();
+			for (String term : document.terms()) {
+				Map<Long, Integer> ids = postings.get(term);
+				if (ids != null) {
+					ids.remove(id);
+					if (ids.isEmpty()) {
+						postings.remove(term);
+					}
+				}
+			}
+		}
+	}
+}
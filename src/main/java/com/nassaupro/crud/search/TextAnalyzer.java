@@ -0,0 +1,45 @@
+package com.nassaupro.crud.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Análise de texto do índice de serviços: remove acentos ("Serviço" -> "servico"),
+ * passa para minúsculas, separa em palavras e descarta stopwords do português.
+ * Documentos e consultas passam pela mesma análise.
+ */
+public final class TextAnalyzer {
+
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+	private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	// Já sem acento, porque são comparadas depois da normalização
+	private static final Set<String> STOPWORDS = Set.of("as", "os", "ao", "aos", "da", "das", "de", "do", "dos", "em",
+			"na", "nas", "no", "nos", "um", "uma", "umas", "uns", "para", "pra", "por", "pelo", "pela", "com", "sem",
+			"que", "ou", "se");
+
+	private TextAnalyzer() {
+	}
+
+	public static List<String> tokenize(String text) {
+		if (text == null || text.isBlank()) {
+			return List.of();
+		}
+		String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+				.toLowerCase(Locale.ROOT);
+
+		List<String> tokens = new ArrayList<>();
+		for (String token : SEPARATORS.split(folded)) {
+			// Letras soltas ("a", "e", "o") não ajudam a ranquear
+			if (token.length() > 1 && !STOPWORDS.contains(token)) {
+				tokens.add(token);
+			}
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,51 @@
+package com.nassaupro.crud.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Valida os itens de um cadastro em lote com as mesmas anotações usadas nos
+ * endpoints /create, agrupando as mensagens pelo índice do item no array.
+ */
+@Component
+public class BulkValidator {
+
+	@Autowired
+	private Validator validator;
+
+	@Value("${nassaupro.bulk.max-items}")
+	private int maxItems;
+
+	public int getMaxItems() {
+		return maxItems;
+	}
+
+	public <T> Map<Integer, List<String>> validate(List<T> items) {
+		Map<Integer, List<String>> errorsByIndex = new TreeMap<>();
+
+		for (int i = 0; i < items.size(); i++) {
+			T item = items.get(i);
+			if (item == null) {
+				addError(errorsByIndex, i, "O item não pode ser nulo");
+				continue;
+			}
+			for (ConstraintViolation<T> violation : validator.validate(item)) {
+				addError(errorsByIndex, i, violation.getMessage());
+			}
+		}
+		return errorsByIndex;
+	}
+
+	public static void addError(Map<Integer, List<String>> errorsByIndex, int index, String message) {
+		errorsByIndex.computeIfAbsent(index, key -> new ArrayList<>()).add(message);
+	}
+}
@@ -0,0 +1,31 @@
+package com.nassaupro.crud.validation;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * CPF com dígitos verificadores corretos, com ou sem máscara (000.000.000-00). Aceita e
+ * recusa os mesmos valores que o {@code @CPF} do Hibernate Validator.
+ */
+@Documented
+@Constraint(validatedBy = CpfValidator.class)
+@Target({ FIELD, METHOD, PARAMETER, ANNOTATION_TYPE })
+@Retention(RUNTIME)
+public @interface Cpf {
+
+	String message() default "O CPF informado não é válido";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,84 @@
+package com.nassaupro.crud.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Confere formato e dígitos verificadores numa única passada, acumulando as duas somas
+ * do módulo 11 enquanto lê os dígitos. Formatos aceitos, como no {@code @CPF}: 11 dígitos
+ * seguidos, {@code 000000000-00} ou {@code 000.000.000-00}; um ponto só não vale.
+ */
+public class CpfValidator implements ConstraintValidator<Cpf, CharSequence> {
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+		if (value == null) {
+			return true;
+		}
+		int length = value.length();
+		if (length < 11 || length > 14) {
+			return false;
+		}
+
+		int digits = 0;
+		int firstSum = 0;
+		int secondSum = 0;
+		int firstCheck = 0;
+		int secondCheck = 0;
+		int firstDigit = 0;
+		boolean allSame = true;
+		boolean firstDot = false;
+		boolean secondDot = false;
+		boolean dashed = false;
+		boolean previousIsDigit = false;
+
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= '0' && c <= '9') {
+				int digit = c - '0';
+				if (digits == 0) {
+					firstDigit = digit;
+				} else if (digit != firstDigit) {
+					allSame = false;
+				}
+
+				if (digits < 9) {
+					firstSum += digit * (10 - digits);
+					secondSum += digit * (11 - digits);
+				} else if (digits == 9) {
+					firstCheck = digit;
+					secondSum += digit * 2;
+				} else if (digits == 10) {
+					secondCheck = digit;
+				} else {
+					return false;
+				}
+				digits++;
+				previousIsDigit = true;
+			} else if (c == '.' && previousIsDigit && (digits == 3 || digits == 6)) {
+				if (digits == 3) {
+					firstDot = true;
+				} else {
+					secondDot = true;
+				}
+				previousIsDigit = false;
+			} else if (c == '-' && previousIsDigit && digits == 9) {
+				dashed = true;
+				previousIsDigit = false;
+			} else {
+				return false;
+			}
+		}
+
+		// Os dois pontos ou nenhum, e com pontos o traço é obrigatório; CPFs com todos os dígitos iguais não valem
+		if (digits != 11 || firstDot != secondDot || (firstDot && !dashed) || allSame) {
+			return false;
+		}
+		return firstCheck == checkDigit(firstSum) && secondCheck == checkDigit(secondSum);
+	}
+
+	private static int checkDigit(int sum) {
+		int rest = sum % 11;
+		return rest < 2 ? 0 : 11 - rest;
+	}
+}
@@ -0,0 +1,143 @@
+package com.nassaupro.crud.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+
+/**
+ * Caminho rápido para o caso comum (endereço todo em ASCII, sem aspas nem IP entre
+ * colchetes): uma passada pelos caracteres com as mesmas regras de parte local e domínio
+ * do {@code @Email}. Qualquer outro formato é validado pelo próprio {@code @Email}, pela
+ * API do Bean Validation, então o resultado é sempre o mesmo do {@code @Email}.
+ */
+public class EmailAddressValidator implements ConstraintValidator<EmailAddress, CharSequence> {
+
+	private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+	private static final int MAX_DOMAIN_LENGTH = 255;
+
+	private static final int MAX_LABEL_LENGTH = 63;
+
+	// Símbolos aceitos fora de aspas, além de letras e dígitos (iguais na parte local e no domínio)
+	private static final String ATOM_SYMBOLS = "!#$%&'*+/=?^_`{|}~";
+
+	// Só para os formatos raros: o @Email validado num campo de exemplo
+	private static final class StandardEmail {
+
+		private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+		@Email
+		private String value;
+	}
+
+	private enum Result {
+		VALID, INVALID, UNKNOWN
+	}
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+		if (value == null || value.length() == 0) {
+			return true;
+		}
+		int at = lastIndexOf(value, '@');
+		if (at < 0) {
+			return false;
+		}
+
+		Result local = checkLocalPart(value, at);
+		if (local == Result.INVALID) {
+			return false;
+		}
+		Result domain = checkDomain(value, at + 1);
+		if (domain == Result.INVALID) {
+			return false;
+		}
+		if (local == Result.VALID && domain == Result.VALID) {
+			return true;
+		}
+		return StandardEmail.VALIDATOR.validateValue(StandardEmail.class, "value", value.toString()).isEmpty();
+	}
+
+	// Átomos separados por ponto, sem ponto no início, no fim ou repetido
+	private static Result checkLocalPart(CharSequence value, int end) {
+		if (end > MAX_LOCAL_PART_LENGTH) {
+			return Result.INVALID;
+		}
+		boolean previousIsDot = true;
+		for (int i = 0; i < end; i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c >= 128) {
+				return Result.UNKNOWN;
+			}
+			if (c == '.') {
+				if (previousIsDot) {
+					return Result.INVALID;
+				}
+				previousIsDot = true;
+			} else if (isAtom(c) || c == '-') {
+				previousIsDot = false;
+			} else {
+				return Result.INVALID;
+			}
+		}
+		return previousIsDot ? Result.INVALID : Result.VALID;
+	}
+
+	// Rótulos separados por ponto, que não começam nem terminam com hífen e têm até 63 caracteres
+	private static Result checkDomain(CharSequence value, int start) {
+		int length = value.length();
+		if (start == length) {
+			return Result.INVALID;
+		}
+		if (value.charAt(start) == '[') {
+			return Result.UNKNOWN;
+		}
+		if (length - start > MAX_DOMAIN_LENGTH) {
+			return Result.INVALID;
+		}
+		int labelLength = 0;
+		char previous = '.';
+		for (int i = start; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= 128) {
+				return Result.UNKNOWN;
+			}
+			if (c == '.') {
+				if (labelLength == 0 || previous == '-') {
+					return Result.INVALID;
+				}
+				labelLength = 0;
+			} else if (c == '-') {
+				if (labelLength == 0) {
+					return Result.INVALID;
+				}
+				labelLength++;
+			} else if (isAtom(c)) {
+				labelLength++;
+			} else {
+				return Result.INVALID;
+			}
+			if (labelLength > MAX_LABEL_LENGTH) {
+				return Result.INVALID;
+			}
+			previous = c;
+		}
+		return labelLength == 0 || previous == '-' ? Result.INVALID : Result.VALID;
+	}
+
+	private static boolean isAtom(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+				|| ATOM_SYMBOLS.indexOf(c) >= 0;
+	}
+
+	private static int lastIndexOf(CharSequence value, char c) {
+		for (int i = value.length() - 1; i >= 0; i--) {
+			if (value.charAt(i) == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
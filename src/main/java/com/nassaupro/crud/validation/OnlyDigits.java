@@ -0,0 +1,31 @@
+package com.nassaupro.crud.validation;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Apenas os dígitos ASCII 0-9. Mesmo resultado do antigo {@code @Pattern(regexp = "^[0-9]+$")}:
+ * nulo é válido, vazio não.
+ */
+@Documented
+@Constraint(validatedBy = OnlyDigitsValidator.class)
+@Target({ FIELD, METHOD, PARAMETER, ANNOTATION_TYPE })
+@Retention(RUNTIME)
+public @interface OnlyDigits {
+
+	String message() default "Só deve conter números";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
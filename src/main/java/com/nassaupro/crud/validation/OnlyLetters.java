@@ -0,0 +1,31 @@
+package com.nassaupro.crud.validation;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Letras (com os acentos do português) e espaços. Mesmo resultado do antigo
+ * {@code @Pattern(regexp = "^[a-zA-ZúÚíÍóÓýÝéÉáÁçÇãÃõÕôÔêÊûÛ\\s]+$")}: nulo é válido, vazio não.
+ */
+@Documented
+@Constraint(validatedBy = OnlyLettersValidator.class)
+@Target({ FIELD, METHOD, PARAMETER, ANNOTATION_TYPE })
+@Retention(RUNTIME)
+public @interface OnlyLetters {
+
+	String message() default "Só deve conter letras";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
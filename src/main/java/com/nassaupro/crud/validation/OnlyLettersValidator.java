@@ -0,0 +1,35 @@
+package com.nassaupro.crud.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class OnlyLettersValidator implements ConstraintValidator<OnlyLetters, CharSequence> {
+
+	// As mesmas letras acentuadas da regex antiga
+	private static final String ACCENTED = "úÚíÍóÓýÝéÉáÁçÇãÃõÕôÔêÊûÛ";
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+		if (value == null) {
+			return true;
+		}
+		int length = value.length();
+		if (length == 0) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (!isAllowed(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAllowed(char c) {
+		if (c < 128) {
+			// \s da regex: espaço, \t, \n, \u000B, \f e \r
+			return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == ' ' || (c >= '\t' && c <= '\r');
+		}
+		return ACCENTED.indexOf(c) >= 0;
+	}
+}
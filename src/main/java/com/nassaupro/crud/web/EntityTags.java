@@ -0,0 +1,54 @@
+package com.nassaupro.crud.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+import com.nassaupro.crud.clientdto.RowVersionDTO;
+
+/**
+ * ETags fortes calculados só a partir de (ID, UPDATED_AT) das linhas da resposta.
+ * Qualquer insert, update ou delete que afete a página muda a lista de versões
+ * e, portanto, o ETag; a resposta completa só é montada quando ele não bate.
+ */
+public final class EntityTags {
+
+	private EntityTags() {
+	}
+
+	public static String of(String resource, RowVersionDTO row) {
+		return of(resource, 1, List.of(row));
+	}
+
+	public static String of(String resource, int pageSize, List<RowVersionDTO> rows) {
+		StringBuilder versions = new StringBuilder(resource).append('|').append(pageSize);
+		for (RowVersionDTO row : rows) {
+			versions.append('|').append(row.getId()).append(':');
+			if (row.getUpdatedAt() != null) {
+				versions.append(row.getUpdatedAt().getEpochSecond()).append('.').append(row.getUpdatedAt().getNano());
+			}
+		}
+		return '"' + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+	}
+
+	// If-None-Match usa comparação fraca (RFC 9110): o prefixo W/ é ignorado
+	public static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.equals("*")) {
+				return true;
+			}
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,35 @@
+package com.nassaupro.crud.web;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Nome do método de controller que atende uma requisição, no formato
+ * {@code ClientController.getClientById}; {@code "none"} quando não há um.
+ */
+public final class HandlerNames {
+
+	public static final String NONE = "none";
+
+	private HandlerNames() {
+	}
+
+	public static String of(Object handler) {
+		if (handler instanceof HandlerMethod handlerMethod) {
+			return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+		}
+		return NONE;
+	}
+
+	// Da requisição presa à thread atual; fora dela (tarefas agendadas, subida da aplicação) é "none"
+	public static String current() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return NONE;
+		}
+		return of(attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST));
+	}
+}
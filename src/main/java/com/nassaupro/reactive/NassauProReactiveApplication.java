@@ -0,0 +1,28 @@
+package com.nassaupro.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+
+import com.nassaupro.crud.pagination.PaginationProperties;
+
+/**
+ * API de leitura reativa do catálogo (WebFlux + R2DBC). Roda como um processo à parte,
+ * ao lado da aplicação MVC e sobre o mesmo banco, com a configuração de
+ * {@code reactive.properties}:
+ * <p>
+ * {@code java -cp NassauPro.jar -Dloader.main=com.nassaupro.reactive.NassauProReactiveApplication org.springframework.boot.loader.PropertiesLauncher}
+ */
+@SpringBootApplication(exclude = { DataSourceAutoConfiguration.class,
+		DataSourceTransactionManagerAutoConfiguration.class, HibernateJpaAutoConfiguration.class })
+@Import(PaginationProperties.class)
+public class NassauProReactiveApplication {
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(NassauProReactiveApplication.class).properties("spring.config.name=reactive")
+				.run(args);
+	}
+}
@@ -0,0 +1,92 @@
+package com.nassaupro.reactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nassaupro.crud.clientdto.CursorPageDTO;
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.exception.ClientException;
+import com.nassaupro.crud.exception.PaginationException;
+import com.nassaupro.crud.pagination.KeysetCursor;
+import com.nassaupro.crud.pagination.PaginationProperties;
+import com.nassaupro.reactive.repository.CatalogReadRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Os endpoints de leitura do catálogo, com os mesmos caminhos, parâmetros e respostas da
+ * API MVC, para que o proxy possa mandar esse tráfego para cá sem mudar os clientes.
+ */
+@CrossOrigin(origins = "*")
+@RestController
+public class ReactiveCatalogController {
+
+	@Autowired
+	private CatalogReadRepository catalogReadRepository;
+
+	@Autowired
+	private PaginationProperties paginationProperties;
+
+	@GetMapping("/categories/list")
+	public Mono<ResponseEntity<Object>> getAllCategories(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		return Mono.defer(() -> {
+			long afterId = KeysetCursor.decode(cursor).getLastId();
+			int pageSize = paginationProperties.resolveSize(size);
+
+			// Busca uma linha a mais para saber se existe próxima página
+			return catalogReadRepository.findCategoryPage(afterId, pageSize + 1).collectList().map(categories -> {
+				if (categories.isEmpty() && cursor == null) {
+					return ok("Não há categoria cadastrada"); // 200 OK
+				}
+				return ok(CursorPageDTO.of(categories, pageSize, category -> KeysetCursor.encode(category.getId())));
+			});
+		}).onErrorResume(PaginationException.class, e -> Mono.just(badRequest(e))); // 400 Bad Request
+	}
+
+	@GetMapping("/services/list")
+	public Mono<ResponseEntity<Object>> getAllServices(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		return Mono.defer(() -> {
+			long afterId = KeysetCursor.decode(cursor).getLastId();
+			int pageSize = paginationProperties.resolveSize(size);
+
+			return catalogReadRepository.findServicePage(afterId, pageSize + 1).collectList().map(services -> {
+				if (services.isEmpty() && cursor == null) {
+					return ok("Não há serviço cadastrado"); // 200 OK
+				}
+				return ok(CursorPageDTO.of(services, pageSize, service -> KeysetCursor.encode(service.getId())));
+			});
+		}).onErrorResume(PaginationException.class, e -> Mono.just(badRequest(e))); // 400 Bad Request
+	}
+
+	// Exporta todos os serviços em NDJSON. O WebFlux só pede mais linhas ao banco quando o
+	// socket aceita escrita, então um cliente lento segura memória de um bloco, e nenhuma thread
+	@GetMapping(value = "/services/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<ServiceDetailDTO> exportServices() {
+		return catalogReadRepository.streamAllDetails();
+	}
+
+	@GetMapping("/clients/list/{id}")
+	public Mono<ResponseEntity<Object>> getClientById(@PathVariable Long id) {
+		return catalogReadRepository.findClientById(id).map(ReactiveCatalogController::ok) // 200 OK
+				.switchIfEmpty(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+						.body(ClientException.clientNotFound(id).getMessage()))); // 404 Not Found
+	}
+
+	private static ResponseEntity<Object> ok(Object body) {
+		return ResponseEntity.ok(body);
+	}
+
+	private static ResponseEntity<Object> badRequest(PaginationException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+	}
+}
@@ -0,0 +1,73 @@
+package com.nassaupro.reactive.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.nassaupro.crud.clientdto.CategoryListDTO;
+import com.nassaupro.crud.clientdto.ClientListDTO;
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.clientdto.ServiceListDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consultas de leitura do catálogo pelo driver R2DBC. Devolvem as mesmas projeções da API
+ * MVC; as linhas chegam conforme o assinante pede, sem prender thread enquanto o banco
+ * responde.
+ */
+@Repository
+public class CatalogReadRepository {
+
+	// Linhas pedidas ao banco por vez na exportação; o próximo bloco só é buscado
+	// depois que o cliente HTTP consumiu o anterior
+	private static final int EXPORT_FETCH_SIZE = 1000;
+
+	@Autowired
+	private DatabaseClient databaseClient;
+
+	public Flux<CategoryListDTO> findCategoryPage(long afterId, int limit) {
+		return databaseClient
+				.sql("SELECT CATEGORY_ID, CATEGORY_NAME, CATEGORY_DESCRIPTION FROM CATEGORIES "
+						+ "WHERE CATEGORY_ID > :afterId ORDER BY CATEGORY_ID LIMIT :limit")
+				.bind("afterId", afterId).bind("limit", limit)
+				.map(row -> new CategoryListDTO(row.get("CATEGORY_ID", Long.class),
+						row.get("CATEGORY_NAME", String.class), row.get("CATEGORY_DESCRIPTION", String.class)))
+				.all();
+	}
+
+	public Flux<ServiceListDTO> findServicePage(long afterId, int limit) {
+		return databaseClient
+				.sql("SELECT SERVICE_ID, SERVICE_NAME, SERVICE_DESCRIPTION FROM SERVICES "
+						+ "WHERE SERVICE_ID > :afterId ORDER BY SERVICE_ID LIMIT :limit")
+				.bind("afterId", afterId).bind("limit", limit)
+				.map(row -> new ServiceListDTO(row.get("SERVICE_ID", Long.class), row.get("SERVICE_NAME", String.class),
+						row.get("SERVICE_DESCRIPTION", String.class)))
+				.all();
+	}
+
+	public Mono<ClientListDTO> findClientById(long id) {
+		return databaseClient
+				.sql("SELECT CLIENT_ID, F_NAME, L_NAME, EMAIL, PHONE_NUMBER FROM CLIENTS WHERE CLIENT_ID = :id")
+				.bind("id", id)
+				.map(row -> new ClientListDTO(row.get("CLIENT_ID", Long.class), row.get("F_NAME", String.class),
+						row.get("L_NAME", String.class), row.get("EMAIL", String.class),
+						row.get("PHONE_NUMBER", String.class)))
+				.one();
+	}
+
+	public Flux<ServiceDetailDTO> streamAllDetails() {
+		return databaseClient
+				.sql("SELECT SERVICE_ID, SERVICE_NAME, SERVICE_DESCRIPTION, SERVICE_PRICE, CATEGORY_ID, CLIENT_ID "
+						+ "FROM SERVICES ORDER BY SERVICE_ID")
+				.filter(statement -> statement.fetchSize(EXPORT_FETCH_SIZE))
+				.map(row -> {
+					Double price = row.get("SERVICE_PRICE", Double.class);
+					return new ServiceDetailDTO(row.get("SERVICE_ID", Long.class), row.get("SERVICE_NAME", String.class),
+							row.get("SERVICE_DESCRIPTION", String.class), price == null ? 0 : price,
+							row.get("CATEGORY_ID", Long.class), row.get("CLIENT_ID", Long.class));
+				})
+				.all();
+	}
+}
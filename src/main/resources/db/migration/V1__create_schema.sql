@@ -0,0 +1,49 @@
+-- Esquema que o Hibernate criava com ddl-auto=update. Em bancos que já existiam antes das
+-- migrações (baseline na versão 0) as tabelas já estão lá e não são recriadas; o que as
+-- entidades ganharam depois (sequences e UPDATED_AT) é acrescentado no fim.
+
+-- allocationSize = 50 nas entidades: cada nextval reserva um bloco de 50 IDs
+CREATE SEQUENCE IF NOT EXISTS categories_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS clients_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS services_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS categories (
+    category_id          BIGINT                      NOT NULL,
+    category_name        VARCHAR(100)                NOT NULL,
+    category_description VARCHAR(500)                NOT NULL,
+    updated_at           TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_categories PRIMARY KEY (category_id)
+);
+
+CREATE TABLE IF NOT EXISTS clients (
+    client_id    BIGINT                      NOT NULL,
+    f_name       VARCHAR(40)                 NOT NULL,
+    l_name       VARCHAR(40)                 NOT NULL,
+    email        VARCHAR(255)                NOT NULL,
+    password     VARCHAR(255)                NOT NULL,
+    cpf          VARCHAR(11),
+    phone_number VARCHAR(11)                 NOT NULL,
+    user_type    VARCHAR(255)                NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_clients PRIMARY KEY (client_id),
+    CONSTRAINT ck_clients_user_type CHECK (user_type IN ('STUDENT_PROVIDER', 'CLIENT'))
+);
+
+CREATE TABLE IF NOT EXISTS services (
+    service_id          BIGINT                      NOT NULL,
+    service_name        VARCHAR(100)                NOT NULL,
+    service_description VARCHAR(500),
+    category_id         BIGINT                      NOT NULL,
+    service_price       DOUBLE PRECISION            NOT NULL,
+    client_id           BIGINT                      NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_services PRIMARY KEY (service_id),
+    CONSTRAINT fk_services_category FOREIGN KEY (category_id) REFERENCES categories (category_id),
+    CONSTRAINT fk_services_client FOREIGN KEY (client_id) REFERENCES clients (client_id)
+);
+
+-- Tabelas criadas pelo ddl-auto=update antes do UPDATED_AT (usado nos ETags) não têm a
+-- coluna, e o ddl-auto=validate recusaria a subida sem ela
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE clients ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE services ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE;
@@ -0,0 +1,39 @@
+-- Constraints únicas com nome fixo (os controllers identificam o valor repetido por ele)
+-- e os índices das consultas. Escrita para rodar tanto num banco novo quanto num banco
+-- criado pelo ddl-auto=update, que pode já ter parte disso com outros nomes.
+
+-- O antigo unique = true do CPF criava uma constraint com nome gerado pelo Hibernate
+DO $$
+DECLARE
+    old_constraint TEXT;
+BEGIN
+    FOR old_constraint IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_class rel ON rel.oid = con.conrelid
+        JOIN pg_attribute att ON att.attrelid = rel.oid AND att.attnum = con.conkey[1]
+        WHERE rel.relname = 'clients' AND con.contype = 'u' AND cardinality(con.conkey) = 1
+          AND att.attname = 'cpf' AND con.conname <> 'uk_clients_cpf'
+    LOOP
+        EXECUTE format('ALTER TABLE clients DROP CONSTRAINT %I', old_constraint);
+    END LOOP;
+END $$;
+
+-- Cada constraint única já cria o índice usado nas buscas por CPF, e-mail e nome de categoria
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_clients_cpf') THEN
+        ALTER TABLE clients ADD CONSTRAINT uk_clients_cpf UNIQUE (cpf);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_clients_email') THEN
+        ALTER TABLE clients ADD CONSTRAINT uk_clients_email UNIQUE (email);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_categories_name') THEN
+        ALTER TABLE categories ADD CONSTRAINT uk_categories_name UNIQUE (category_name);
+    END IF;
+END $$;
+
+-- Chaves estrangeiras de SERVICES: o PostgreSQL não indexa FKs sozinho. CATEGORY_ID vem
+-- na frente do índice composto, que também atende /services/search (categoria + faixa de preço)
+CREATE INDEX IF NOT EXISTS idx_services_category_price ON services (category_id, service_price);
+CREATE INDEX IF NOT EXISTS idx_services_client ON services (client_id);
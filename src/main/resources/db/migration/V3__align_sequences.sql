@@ -0,0 +1,7 @@
+-- Os IDs passaram de IDENTITY para sequences com allocationSize = 50 (permite batch de inserts).
+-- Posiciona cada sequence depois do maior ID já existente; GREATEST garante que ela nunca volte
+-- para trás quando outra instância já reservou um bloco de IDs. Rodava a cada inicialização;
+-- como migração roda uma vez, nos bancos que ainda tinham IDs gerados por IDENTITY.
+SELECT setval('clients_seq', GREATEST((SELECT last_value FROM clients_seq), (SELECT COALESCE(MAX(client_id), 1) FROM clients)));
+SELECT setval('categories_seq', GREATEST((SELECT last_value FROM categories_seq), (SELECT COALESCE(MAX(category_id), 1) FROM categories)));
+SELECT setval('services_seq', GREATEST((SELECT last_value FROM services_seq), (SELECT COALESCE(MAX(service_id), 1) FROM services)));
@@ -0,0 +1,31 @@
+package com.nassaupro.crud;
+
+/**
+ * Gera CPFs válidos (dígitos verificadores corretos, sem dígitos todos iguais) a partir
+ * de um número sequencial, para popular bancos de teste, benchmarks e testes de carga.
+ */
+public final class CpfGenerator {
+
+	private CpfGenerator() {
+	}
+
+	public static String cpf(long sequence) {
+		long base = 100_000_000L + Math.floorMod(sequence, 899_999_999L);
+		String digits = Long.toString(base);
+		if (digits.chars().distinct().count() == 1) {
+			digits = Long.toString(base + 1);
+		}
+		int first = checkDigit(digits, 10);
+		int second = checkDigit(digits + first, 11);
+		return digits + first + second;
+	}
+
+	private static int checkDigit(String digits, int weight) {
+		int sum = 0;
+		for (int i = 0; i < digits.length(); i++) {
+			sum += (digits.charAt(i) - '0') * (weight - i);
+		}
+		int rest = (sum * 10) % 11;
+		return rest == 10 ? 0 : rest;
+	}
+}
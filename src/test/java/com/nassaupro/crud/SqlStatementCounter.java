@@ -0,0 +1,69 @@
+package com.nassaupro.crud;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Envolve o DataSource da aplicação e conta os comandos que chegam ao JDBC: um por
+ * execute/executeBatch, então um lote de inserts conta como um comando. As chamadas
+ * de sequence são ignoradas, porque dependem do estado do pooled optimizer.
+ * Use com {@code @Import(SqlStatementCounter.class)}.
+ */
+public class SqlStatementCounter implements BeanPostProcessor, QueryExecutionListener {
+
+	private final List<String> statements = new CopyOnWriteArrayList<>();
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		// O DataSource pode já ter sido envolvido pelo SqlExecutionLogger
+		if (bean instanceof ProxyDataSource proxy) {
+			proxy.getProxyConfig().getQueryListener().addListener(this);
+			return bean;
+		}
+		if (bean instanceof DataSource dataSource) {
+			return ProxyDataSourceBuilder.create(beanName, dataSource).listener(this).build();
+		}
+		return bean;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+		if (!isSequenceCall(sql)) {
+			statements.add(sql);
+		}
+	}
+
+	public void reset() {
+		statements.clear();
+	}
+
+	public int count() {
+		return statements.size();
+	}
+
+	public List<String> getStatements() {
+		return List.copyOf(statements);
+	}
+
+	private static boolean isSequenceCall(String sql) {
+		String normalized = sql.toLowerCase(Locale.ROOT);
+		return normalized.contains("next value for") || normalized.contains("nextval(");
+	}
+}
@@ -0,0 +1,93 @@
+package com.nassaupro.crud.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTests {
+
+	@Test
+	void rejectsOnceTheLimitIsInUse() {
+		AimdLimiter limiter = new AimdLimiter(2, 1, 10, Duration.ofHours(1), 0.5);
+		long first = limiter.tryAcquire();
+		long second = limiter.tryAcquire();
+
+		assertTrue(first >= 0 && second >= 0);
+		assertEquals(-1, limiter.tryAcquire());
+		assertEquals(2, limiter.getInFlight());
+
+		limiter.release(first);
+		assertTrue(limiter.tryAcquire() >= 0);
+	}
+
+	@Test
+	void slowResponsesShrinkTheLimitOncePerWindow() throws InterruptedException {
+		AimdLimiter limiter = new AimdLimiter(8, 1, 10, Duration.ofMillis(100), 0.5);
+		long[] permits = new long[4];
+		for (int i = 0; i < permits.length; i++) {
+			permits[i] = limiter.tryAcquire();
+		}
+		Thread.sleep(150);
+
+		// As quatro entraram antes da primeira redução: só ela conta
+		for (long permit : permits) {
+			limiter.release(permit);
+		}
+		assertEquals(4, limiter.getLimit());
+
+		// Uma requisição que entrou depois da redução e também demorou reduz de novo
+		long acquiredAt = limiter.tryAcquire();
+		Thread.sleep(150);
+		limiter.release(acquiredAt);
+		assertEquals(2, limiter.getLimit());
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	void limitStaysWithinBounds() {
+		AimdLimiter growing = new AimdLimiter(3, 2, 4, Duration.ofHours(1), 0.5);
+		for (int round = 0; round < 20; round++) {
+			long[] permits = new long[growing.getLimit()];
+			for (int i = 0; i < permits.length; i++) {
+				permits[i] = growing.tryAcquire();
+			}
+			for (long permit : permits) {
+				growing.release(permit);
+			}
+		}
+		assertEquals(4, growing.getLimit());
+
+		// Limite de latência negativo: toda resposta é lenta
+		AimdLimiter shrinking = new AimdLimiter(3, 2, 4, Duration.ofNanos(-1), 0.5);
+		for (int i = 0; i < 10; i++) {
+			shrinking.release(shrinking.tryAcquire());
+		}
+		assertEquals(2, shrinking.getLimit());
+	}
+
+	@Test
+	void fastResponsesGrowTheLimitOnlyWhenItIsUsed() {
+		AimdLimiter limiter = new AimdLimiter(4, 1, 100, Duration.ofHours(1), 0.5);
+
+		// Uma requisição por vez não chega à metade do limite: ele não cresce
+		for (int i = 0; i < 100; i++) {
+			limiter.release(limiter.tryAcquire());
+		}
+		assertEquals(4, limiter.getLimit());
+
+		// Com o limite todo em uso ele sobe cerca de 1 por rodada
+		for (int round = 0; round < 4; round++) {
+			long[] permits = new long[limiter.getLimit()];
+			for (int i = 0; i < permits.length; i++) {
+				permits[i] = limiter.tryAcquire();
+			}
+			for (long permit : permits) {
+				limiter.release(permit);
+			}
+		}
+		assertTrue(limiter.getLimit() > 4, () -> "Limite: " + limiter.getLimit());
+	}
+}
@@ -0,0 +1,136 @@
+package com.nassaupro.crud.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void concurrentRequestsShareOneLoad() throws Exception {
+		SingleFlight<Long, StringBuilder> singleFlight = singleFlight(Duration.ZERO);
+		CountDownLatch release = new CountDownLatch(1);
+		int requests = 8;
+
+		List<Future<StringBuilder>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+			for (int i = 0; i < requests; i++) {
+				results.add(executor.submit(() -> singleFlight.load(1L, key -> {
+					loads.incrementAndGet();
+					await(release);
+					return new StringBuilder("serviço " + key);
+				})));
+			}
+
+			// Segura a carga até as outras sete requisições estarem esperando por ela
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (count("coalesced") < requests - 1 && System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			release.countDown();
+
+			StringBuilder first = results.get(0).get();
+			for (Future<StringBuilder> result : results) {
+				assertSame(first, result.get());
+			}
+		}
+
+		assertEquals(1, loads.get());
+		assertEquals(1, count("leader"));
+		assertEquals(requests - 1, count("coalesced"));
+		assertEquals(requests - 1, meterRegistry.get("nassaupro.coalescing.waiters").summary().max());
+		assertEquals(0, meterRegistry.get("nassaupro.coalescing.keys").gauge().value());
+	}
+
+	@Test
+	void withoutTtlLaterRequestsLoadAgain() {
+		SingleFlight<Long, String> singleFlight = singleFlight(Duration.ZERO);
+		singleFlight.load(1L, this::load);
+		singleFlight.load(1L, this::load);
+
+		assertEquals(2, loads.get());
+		assertEquals(0, meterRegistry.get("nassaupro.coalescing.ratio").gauge().value());
+	}
+
+	@Test
+	void resultTtlServesLaterRequestsUntilForgotten() {
+		SingleFlight<Long, String> singleFlight = singleFlight(Duration.ofHours(1));
+		assertEquals("serviço 1", singleFlight.load(1L, this::load));
+		assertEquals("serviço 1", singleFlight.load(1L, this::load));
+		assertEquals(1, loads.get());
+		assertEquals(1, count("cached"));
+		assertEquals(0.5, meterRegistry.get("nassaupro.coalescing.ratio").gauge().value());
+
+		singleFlight.forget(1L);
+		singleFlight.load(1L, this::load);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void failuresAreNotKept() {
+		SingleFlight<Long, String> singleFlight = singleFlight(Duration.ofHours(1));
+		IllegalStateException failure = new IllegalStateException("banco fora do ar");
+
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> singleFlight.load(1L, key -> {
+			loads.incrementAndGet();
+			throw failure;
+		})));
+		assertEquals("serviço 1", singleFlight.load(1L, this::load));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void disabledAlwaysLoads() {
+		CoalescingProperties properties = new CoalescingProperties();
+		properties.setEnabled(false);
+		properties.setResultTtl(Duration.ofHours(1));
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", properties, meterRegistry);
+
+		singleFlight.load(1L, this::load);
+		singleFlight.load(1L, this::load);
+		assertEquals(2, loads.get());
+		assertEquals(0, count("leader"));
+	}
+
+	private <V> SingleFlight<Long, V> singleFlight(Duration resultTtl) {
+		CoalescingProperties properties = new CoalescingProperties();
+		properties.setResultTtl(resultTtl);
+		return new SingleFlight<>("test", properties, meterRegistry);
+	}
+
+	private String load(Long id) {
+		loads.incrementAndGet();
+		return "serviço " + id;
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("nassaupro.coalescing.requests").tag("result", result).counter().count();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
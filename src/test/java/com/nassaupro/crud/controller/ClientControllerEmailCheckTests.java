@@ -0,0 +1,28 @@
+package com.nassaupro.crud.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// isValidEmail deixou de usar String.matches, mas precisa continuar com o mesmo resultado
+class ClientControllerEmailCheckTests {
+
+	private static final String REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
+
+	@Test
+	void matchesTheOriginalRegex() {
+		String alphabet = "aZ9+_.-@ !\n\r\u0085 é";
+		Random random = new Random(11);
+		for (int i = 0; i < 100_000; i++) {
+			StringBuilder email = new StringBuilder();
+			int length = random.nextInt(9);
+			for (int j = 0; j < length; j++) {
+				email.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			String value = email.toString();
+			assertEquals(value.matches(REGEX), ClientController.isValidEmail(value), () -> "[" + value + "]");
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package com.nassaupro.crud.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.nassaupro.crud.SqlStatementCounter;
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.model.Service;
+import com.nassaupro.crud.repository.CategoryRepository;
+import com.nassaupro.crud.repository.ClientRepository;
+import com.nassaupro.crud.repository.ServiceRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Número exato de comandos SQL por endpoint de serviços. Se algum teste falhar com
+ * um número maior, provavelmente alguma associação voltou a ser carregada (N+1).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class ServiceControllerSqlCountTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private SqlStatementCounter sqlStatementCounter;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	private Category category;
+
+	private Client client;
+
+	private Service service;
+
+	@BeforeEach
+	void seed() {
+		category = new Category();
+		category.setName("Fitness");
+		category.setDescription("Categoria de serviços de condicionamento físico");
+		category = categoryRepository.save(category);
+
+		client = new Client();
+		client.setFulanoHumberto("Melo");
+		client.setLastName("Meloso");
+		client.setEmail("melo.meloso@gmail.com");
+		client.setPassword("Melo123456");
+		client.setCpf("69475441069");
+		client.setPhoneNumber("81912345678");
+		client.setUserType(Client.UserType.CLIENT);
+		client = clientRepository.save(client);
+
+		service = new Service();
+		service.setName("Serviço de Personal Trainer");
+		service.setDescription("Treinamento personalizado para condicionamento físico");
+		service.setPrice(25.0);
+		service.setCategory(category);
+		service.setClient(client);
+		service = serviceRepository.save(service);
+
+		// Cada teste começa com o cache de segundo nível frio e o contador zerado
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+		sqlStatementCounter.reset();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		serviceRepository.deleteAllInBatch();
+		clientRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void createServiceLoadsCategoryChecksClientAndInserts() throws Exception {
+		mockMvc.perform(post("/services/create").contentType(MediaType.APPLICATION_JSON).content(serviceJson("Aula de Yoga")))
+				.andExpect(status().isCreated());
+
+		// select da categoria, existência do cliente e o insert
+		assertStatementCount(3);
+	}
+
+	@Test
+	void createServicesBulkChecksReferencesOnceAndInsertsInOneBatch() throws Exception {
+		String body = "[" + serviceJson("Aula de Yoga") + "," + serviceJson("Aula de Pilates") + ","
+				+ serviceJson("Aula de Natação") + "]";
+
+		mockMvc.perform(post("/services/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isCreated());
+
+		// IDs de categorias, IDs de clientes e um único executeBatch com os três inserts
+		assertStatementCount(3);
+	}
+
+	@Test
+	void listServicesReadsVersionsAndPage() throws Exception {
+		mockMvc.perform(get("/services/list")).andExpect(status().isOk());
+
+		// versões para o ETag e a projeção da página
+		assertStatementCount(2);
+	}
+
+	@Test
+	void listServicesWithMatchingEtagOnlyReadsVersions() throws Exception {
+		String etag = mockMvc.perform(get("/services/list")).andExpect(status().isOk()).andReturn().getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		sqlStatementCounter.reset();
+
+		mockMvc.perform(get("/services/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		assertStatementCount(1);
+	}
+
+	@Test
+	void getServiceByIdDoesNotLoadCategoryOrClient() throws Exception {
+		mockMvc.perform(get("/services/list/{id}", service.getId())).andExpect(status().isOk());
+
+		assertStatementCount(1);
+	}
+
+	@Test
+	void exportServicesRunsASingleQuery() throws Exception {
+		mockMvc.perform(get("/services/export")).andExpect(status().isOk());
+
+		assertStatementCount(1);
+	}
+
+	@Test
+	void updateServiceSelectsAndUpdates() throws Exception {
+		mockMvc.perform(put("/services/change/{id}", service.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content(serviceJson("Personal Trainer Avançado"))).andExpect(status().isOk());
+
+		assertStatementCount(2);
+	}
+
+	@Test
+	void deleteServiceChecksLoadsAndDeletes() throws Exception {
+		mockMvc.perform(delete("/services/delete/{id}", service.getId())).andExpect(status().isOk());
+
+		// existsById, findById do deleteById e o delete
+		assertStatementCount(3);
+	}
+
+	private String serviceJson(String name) {
+		return "{\"name\":\"" + name + "\",\"description\":\"Descrição do serviço\",\"price\":30.0,"
+				+ "\"category\":{\"id\":" + category.getId() + "},\"client\":{\"id\":" + client.getId() + "}}";
+	}
+
+	private void assertStatementCount(int expected) {
+		assertEquals(expected, sqlStatementCounter.count(),
+				() -> "Comandos SQL executados: " + sqlStatementCounter.getStatements());
+	}
+}
@@ -0,0 +1,166 @@
+package com.nassaupro.crud.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.nassaupro.crud.SqlStatementCounter;
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.repository.CategoryRepository;
+import com.nassaupro.crud.repository.ClientRepository;
+
+/**
+ * CPF, e-mail e nome de categoria repetidos são barrados pelas constraints únicas: o
+ * cadastro faz só o insert e devolve o mesmo 400 de antes quando ele falha.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class UniqueConstraintTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private SqlStatementCounter sqlStatementCounter;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	private Client client;
+
+	@BeforeEach
+	void seed() {
+		Category category = new Category();
+		category.setName("Fitness");
+		category.setDescription("Categoria de serviços de condicionamento físico");
+		categoryRepository.save(category);
+
+		client = clientRepository.save(newClient("69475441069", "melo.meloso@gmail.com"));
+		sqlStatementCounter.reset();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		clientRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void createClientIsASingleInsert() throws Exception {
+		mockMvc.perform(post("/clients/create").contentType(MediaType.APPLICATION_JSON)
+				.content(clientJson("52998224725", "outro@gmail.com"))).andExpect(status().isCreated());
+
+		assertEquals(1, sqlStatementCounter.count(), () -> "Comandos SQL: " + sqlStatementCounter.getStatements());
+	}
+
+	@Test
+	void createClientWithUsedCpfIsRejected() throws Exception {
+		mockMvc.perform(post("/clients/create").contentType(MediaType.APPLICATION_JSON)
+				.content(clientJson("69475441069", "outro@gmail.com"))).andExpect(status().isBadRequest())
+				.andExpect(content().string("O CPF 69475441069 já está em uso"));
+	}
+
+	@Test
+	void createClientWithUsedEmailIsRejected() throws Exception {
+		mockMvc.perform(post("/clients/create").contentType(MediaType.APPLICATION_JSON)
+				.content(clientJson("52998224725", "melo.meloso@gmail.com"))).andExpect(status().isBadRequest())
+				.andExpect(content().string("O e-mail melo.meloso@gmail.com já está em uso"));
+	}
+
+	@Test
+	void updateClientToUsedEmailIsRejected() throws Exception {
+		clientRepository.save(newClient("52998224725", "outro@gmail.com"));
+
+		mockMvc.perform(put("/clients/change/{id}", client.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content(clientJson("69475441069", "outro@gmail.com"))).andExpect(status().isBadRequest())
+				.andExpect(content().string("O e-mail outro@gmail.com já está em uso"));
+	}
+
+	@Test
+	void createCategoryIsASingleInsert() throws Exception {
+		mockMvc.perform(post("/categories/create").contentType(MediaType.APPLICATION_JSON)
+				.content(categoryJson("Yoga"))).andExpect(status().isOk());
+
+		assertEquals(1, sqlStatementCounter.count(), () -> "Comandos SQL: " + sqlStatementCounter.getStatements());
+	}
+
+	@Test
+	void createCategoryWithUsedNameIsRejected() throws Exception {
+		mockMvc.perform(post("/categories/create").contentType(MediaType.APPLICATION_JSON)
+				.content(categoryJson("Fitness"))).andExpect(status().isBadRequest())
+				.andExpect(content().string("Já existe uma categoria com o mesmo nome"));
+	}
+
+	@Test
+	void concurrentInsertsWithSameCpfCreateOnlyOneClient() throws Exception {
+		List<Callable<Boolean>> inserts = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			String email = "concorrente" + i + "@gmail.com";
+			inserts.add(() -> {
+				try {
+					clientRepository.saveAndFlush(newClient("52998224725", email));
+					return true;
+				} catch (DataIntegrityViolationException e) {
+					return false;
+				}
+			});
+		}
+
+		int created = 0;
+		try (ExecutorService executor = Executors.newFixedThreadPool(inserts.size())) {
+			for (Future<Boolean> result : executor.invokeAll(inserts)) {
+				created += result.get() ? 1 : 0;
+			}
+		}
+		assertEquals(1, created);
+	}
+
+	private static Client newClient(String cpf, String email) {
+		Client client = new Client();
+		client.setFulanoHumberto("Melo");
+		client.setLastName("Meloso");
+		client.setEmail(email);
+		client.setPassword("Melo123456");
+		client.setCpf(cpf);
+		client.setPhoneNumber("81912345678");
+		client.setUserType(Client.UserType.CLIENT);
+		return client;
+	}
+
+	private static String clientJson(String cpf, String email) {
+		return "{\"fulanoHumberto\":\"Melo\",\"lastName\":\"Meloso\",\"email\":\"" + email + "\","
+				+ "\"password\":\"Melo123456\",\"cpf\":\"" + cpf + "\",\"phoneNumber\":\"81912345678\","
+				+ "\"userType\":\"CLIENT\"}";
+	}
+
+	private static String categoryJson(String name) {
+		return "{\"name\":\"" + name + "\",\"description\":\"Categoria de teste\"}";
+	}
+}
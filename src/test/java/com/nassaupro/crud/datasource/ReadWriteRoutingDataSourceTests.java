@@ -0,0 +1,90 @@
+package com.nassaupro.crud.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Dois H2 em memória fazendo papel de primário e réplica; a transação somente leitura é
+ * simulada pela mesma flag que o gerenciador de transações do Spring liga.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+	private ReadWriteRoutingDataSource routingDataSource;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		if (routingDataSource != null) {
+			routingDataSource.close();
+		}
+	}
+
+	@Test
+	void writesAndNonTransactionalCallsGoToPrimary() throws SQLException {
+		routingDataSource = routing(h2("routing-replica", false));
+
+		assertDatabase("ROUTING-PRIMARY");
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplica() throws SQLException {
+		routingDataSource = routing(h2("routing-replica", false));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertDatabase("ROUTING-REPLICA");
+	}
+
+	@Test
+	void fallsBackToPrimaryWhileReplicaIsDownAndReturnsWhenItRecovers() throws SQLException {
+		// IFEXISTS faz o H2 recusar a conexão enquanto ninguém criou o banco da réplica
+		routingDataSource = routing(h2("routing-replica-down", true));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertDatabase("ROUTING-PRIMARY");
+		assertFalse(routingDataSource.isReplicaHealthy(0));
+
+		// Abre o banco da réplica; ele existe enquanto esta conexão estiver aberta
+		JdbcDataSource replicaUp = new JdbcDataSource();
+		replicaUp.setURL("jdbc:h2:mem:routing-replica-down");
+		replicaUp.setUser("sa");
+		try (Connection keepAlive = replicaUp.getConnection()) {
+			routingDataSource.checkReplicas();
+
+			assertTrue(routingDataSource.isReplicaHealthy(0));
+			assertDatabase("ROUTING-REPLICA-DOWN");
+		}
+	}
+
+	private static ReadWriteRoutingDataSource routing(JdbcDataSource replica) {
+		return new ReadWriteRoutingDataSource(h2("routing-primary", false), List.of(replica), Duration.ZERO,
+				Duration.ofSeconds(1));
+	}
+
+	private static JdbcDataSource h2(String name, boolean ifExists) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + (ifExists ? ";IFEXISTS=TRUE" : ";DB_CLOSE_DELAY=-1"));
+		dataSource.setUser("sa");
+		dataSource.setPassword("");
+		return dataSource;
+	}
+
+	private void assertDatabase(String expected) throws SQLException {
+		try (Connection connection = routingDataSource.getConnection();
+				var statement = connection.createStatement();
+				var resultSet = statement.executeQuery("SELECT DATABASE()")) {
+			resultSet.next();
+			String database = resultSet.getString(1);
+			assertTrue(expected.equalsIgnoreCase(database), () -> "Banco usado: " + database);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.nassaupro.crud.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.nassaupro.crud.repository.ClientRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+/**
+ * Todo comando SQL é medido e atribuído ao método de controller que o disparou,
+ * mesmo com o log de SQL lento desligado para ele (abaixo do limite).
+ */
+@SpringBootTest(properties = "nassaupro.sql-log.slow-threshold=1h")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlExecutionLoggerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@AfterEach
+	void cleanUp() {
+		clientRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void dataSourceIsWrapped() {
+		assertTrue(dataSource instanceof ProxyDataSource);
+	}
+
+	@Test
+	void statementsAreTimedPerHandler() throws Exception {
+		mockMvc.perform(post("/clients/create").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"fulanoHumberto\":\"Melo\",\"lastName\":\"Meloso\",\"email\":\"melo.meloso@gmail.com\","
+						+ "\"password\":\"Melo123456\",\"cpf\":\"69475441069\",\"phoneNumber\":\"81912345678\","
+						+ "\"userType\":\"CLIENT\"}"))
+				.andExpect(status().isCreated());
+
+		Timer inserts = meterRegistry.find("nassaupro.sql.statements").tag("handler", "ClientController.createClient")
+				.tag("type", "insert").tag("outcome", "success").timer();
+		assertNotNull(inserts);
+		assertEquals(1, inserts.count());
+	}
+}
@@ -0,0 +1,69 @@
+package com.nassaupro.crud.membership;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.nassaupro.crud.CpfGenerator;
+
+class CountingBloomFilterTests {
+
+	@Test
+	void addedValuesAreAlwaysFound() {
+		CountingBloomFilter filter = CountingBloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.add(CpfGenerator.cpf(i));
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain(CpfGenerator.cpf(i)));
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTheConfiguredOne() {
+		CountingBloomFilter filter = CountingBloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.add("cliente" + i + "@gmail.com");
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain("outro" + i + "@gmail.com")) {
+				falsePositives++;
+			}
+		}
+		double rate = falsePositives / 100_000.0;
+		assertTrue(rate < 0.02, () -> "Taxa de falsos positivos: " + rate);
+		assertEquals(0.01, filter.estimatedFalsePositiveRate(), 0.005);
+	}
+
+	@Test
+	void removedValuesAreNoLongerFound() {
+		CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.01);
+		filter.add("Fitness");
+		filter.add("Yoga");
+		filter.remove("Fitness");
+
+		assertFalse(filter.mightContain("Fitness"));
+		assertTrue(filter.mightContain("Yoga"));
+		assertEquals(0.0, CountingBloomFilter.create(1_000, 0.01).estimatedFalsePositiveRate());
+	}
+
+	@Test
+	void saturatedCountersNeverCreateFalseNegatives() {
+		CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.01);
+		for (int i = 0; i < 20; i++) {
+			filter.add("Fitness");
+		}
+		filter.add("Yoga");
+		for (int i = 0; i < 20; i++) {
+			filter.remove("Fitness");
+		}
+
+		// Os contadores de "Fitness" travaram em 15 e não voltam a zero
+		assertTrue(filter.mightContain("Fitness"));
+		assertTrue(filter.mightContain("Yoga"));
+	}
+}
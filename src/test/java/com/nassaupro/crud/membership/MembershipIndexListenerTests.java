@@ -0,0 +1,96 @@
+package com.nassaupro.crud.membership;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.nassaupro.crud.CpfGenerator;
+import com.nassaupro.crud.model.Category;
+import com.nassaupro.crud.model.Client;
+import com.nassaupro.crud.repository.CategoryRepository;
+import com.nassaupro.crud.repository.ClientRepository;
+
+/**
+ * Cada valor gravado entra no filtro uma vez e sai uma vez: o update troca o valor antigo
+ * pelo novo e o delete tira o valor gravado, sem mexer nos contadores de outros valores.
+ * Os valores são exclusivos desta classe: o deleteAllInBatch dos outros testes não passa
+ * pelo listener e deixa os valores deles no filtro.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MembershipIndexListenerTests {
+
+	@Autowired
+	private MembershipIndexes membershipIndexes;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@AfterEach
+	void cleanUp() {
+		clientRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void updateReplacesTheOldValues() {
+		String oldCpf = CpfGenerator.cpf(700_000_001);
+		String newCpf = CpfGenerator.cpf(700_000_002);
+		Client client = clientRepository.save(newClient(oldCpf, "listener.antigo@gmail.com"));
+
+		Client loaded = clientRepository.findById(client.getId()).orElseThrow();
+		loaded.setCpf(newCpf);
+		loaded.setEmail("listener.novo@gmail.com");
+		clientRepository.save(loaded);
+
+		assertFalse(membershipIndexes.getClientCpfs().mightContain(oldCpf));
+		assertFalse(membershipIndexes.getClientEmails().mightContain("listener.antigo@gmail.com"));
+		assertTrue(membershipIndexes.getClientCpfs().mightContain(newCpf));
+		assertTrue(membershipIndexes.getClientEmails().mightContain("listener.novo@gmail.com"));
+	}
+
+	@Test
+	void savingTheSameValuesAgainKeepsThemAfterOneDelete() {
+		Category category = new Category();
+		category.setName("Pilates do listener");
+		category.setDescription("Categoria de serviços de condicionamento físico");
+		category = categoryRepository.save(category);
+
+		Category other = new Category();
+		other.setName("Yoga do listener");
+		other.setDescription("Categoria de yoga");
+		categoryRepository.save(other);
+
+		// Updates sem mudar o nome: cada um tira e põe o mesmo valor
+		for (int i = 0; i < 3; i++) {
+			Category loaded = categoryRepository.findById(category.getId()).orElseThrow();
+			loaded.setDescription("Descrição " + i);
+			categoryRepository.save(loaded);
+		}
+		assertTrue(membershipIndexes.getCategoryNames().mightContain("Pilates do listener"));
+
+		categoryRepository.deleteById(category.getId());
+		assertFalse(membershipIndexes.getCategoryNames().mightContain("Pilates do listener"));
+		assertTrue(membershipIndexes.getCategoryNames().mightContain("Yoga do listener"));
+	}
+
+	private static Client newClient(String cpf, String email) {
+		Client client = new Client();
+		client.setFulanoHumberto("Melo");
+		client.setLastName("Meloso");
+		client.setEmail(email);
+		client.setPassword("Melo123456");
+		client.setCpf(cpf);
+		client.setPhoneNumber("81912345678");
+		client.setUserType(Client.UserType.CLIENT);
+		return client;
+	}
+}
@@ -0,0 +1,63 @@
+package com.nassaupro.crud.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nassaupro.crud.clientdto.ServiceTextHitDTO;
+import com.nassaupro.crud.pagination.SearchCursor;
+
+class ServiceTextIndexTests {
+
+	private ServiceTextIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ServiceTextIndex();
+		index.put(1L, "Personal Trainer", "Treino personalizado para condicionamento físico");
+		index.put(2L, "Aula de Yoga", "Yoga com acompanhamento de personal");
+		index.put(3L, "Massagem Relaxante", null);
+	}
+
+	@Test
+	void tokenizeFoldsAccentsAndDropsStopwords() {
+		assertEquals(List.of("servico", "musculacao", "avancada"), TextAnalyzer.tokenize("Serviço de Musculação Avançada"));
+	}
+
+	@Test
+	void searchRanksNameMatchesFirstAndIgnoresAccentsInTheQuery() {
+		List<Long> ids = ids(index.search("PERSONAL trainér", null, 10));
+
+		assertEquals(List.of(1L, 2L), ids);
+	}
+
+	@Test
+	void updatesAndRemovalsAreVisibleImmediately() {
+		index.put(3L, "Massagem com Personal", null);
+		index.remove(1L);
+
+		List<Long> ids = ids(index.search("personal", null, 10));
+
+		assertEquals(List.of(3L, 2L), ids);
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	void cursorContinuesAfterTheLastHit() {
+		ServiceTextHitDTO first = index.search("personal", null, 1).get(0);
+		String token = SearchCursor.encode(ServiceTextIndex.CURSOR_SORT, Double.toString(first.getScore()), first.getId());
+
+		List<ServiceTextHitDTO> next = index.search("personal", SearchCursor.decode(token, ServiceTextIndex.CURSOR_SORT), 10);
+
+		assertEquals(List.of(2L), ids(next));
+		assertTrue(next.get(0).getScore() <= first.getScore());
+	}
+
+	private static List<Long> ids(List<ServiceTextHitDTO> hits) {
+		return hits.stream().map(ServiceTextHitDTO::getId).toList();
+	}
+}
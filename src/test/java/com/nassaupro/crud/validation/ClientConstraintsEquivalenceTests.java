@@ -0,0 +1,145 @@
+package com.nassaupro.crud.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.validator.constraints.br.CPF;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.nassaupro.crud.CpfGenerator;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Os validadores escritos à mão precisam aceitar e recusar exatamente os mesmos valores
+ * que as anotações que substituíram no {@code Client}.
+ */
+class ClientConstraintsEquivalenceTests {
+
+	private static ValidatorFactory validatorFactory;
+
+	private static Validator validator;
+
+	// As anotações antigas do Client
+	static class Legacy {
+
+		@Pattern(regexp = "^[a-zA-ZúÚíÍóÓýÝéÉáÁçÇãÃõÕôÔêÊûÛ\\s]+$")
+		String name;
+
+		@Pattern(regexp = "^[0-9]+$")
+		String digits;
+
+		@CPF
+		String cpf;
+
+		@Email
+		String email;
+	}
+
+	static class Current {
+
+		@OnlyLetters
+		String name;
+
+		@OnlyDigits
+		String digits;
+
+		@Cpf
+		String cpf;
+
+		@EmailAddress
+		String email;
+	}
+
+	@BeforeAll
+	static void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+	}
+
+	@AfterAll
+	static void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Test
+	void names() {
+		List<String> values = new ArrayList<>(List.of("", " ", "Melo", "Melo Meloso", "João", "Conceição",
+				"Ýago Ôliveira", "Melo2", "Mélo", "André", "Zoë", "O'Neil", "Ana-Maria", "a\tb\nc", "à"));
+		values.addAll(random("aZúÇ ãô\t1-'àü\f\n", 20_000, 6));
+		assertSame("name", values);
+	}
+
+	@Test
+	void digits() {
+		List<String> values = new ArrayList<>(List.of("", "0", "81912345678", "8191234567a", "819 1234", "١٢٣",
+				"123\n", "+5581"));
+		values.addAll(random("0123456789 a-.\n", 20_000, 12));
+		assertSame("digits", values);
+	}
+
+	@Test
+	void cpfs() {
+		List<String> values = new ArrayList<>(List.of("", "69475441069", "694.754.410-69", "694754410-69",
+				"694.754.41069", "694.754410-69", "69475441068", "00000000000", "111.111.111-11", "1234567890",
+				"123456789012", "694.754.410.69", "694-754-410-69", " 69475441069", "69475441069 "));
+		Random random = new Random(42);
+		for (int i = 0; i < 5_000; i++) {
+			String cpf = CpfGenerator.cpf(random.nextInt(1_000_000_000));
+			values.add(cpf);
+			values.add(cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-"
+					+ cpf.substring(9));
+			values.add(cpf.substring(0, 10) + (char) ('0' + (cpf.charAt(10) - '0' + 1) % 10));
+		}
+		values.addAll(random("0123456789.-", 20_000, 14));
+		assertSame("cpf", values);
+	}
+
+	@Test
+	void emails() {
+		List<String> values = new ArrayList<>(List.of("", "melo.meloso@gmail.com", "MELO@GMAIL.COM", "melo@",
+				"@gmail.com", "melo", "melo@@gmail.com", "me@lo@gmail.com", ".melo@gmail.com", "melo.@gmail.com",
+				"me..lo@gmail.com", "melo@gmail", "melo@gmail.", "melo@.gmail.com", "melo@gmail..com",
+				"melo@-gmail.com", "melo@gmail-.com", "melo@gm-ail.com", "melo+tag@gmail.com",
+				"m!#$%&'*+/=?^_`{|}~-o@x.com", "melo@x!y.com", "\"melo meloso\"@gmail.com", "\"me\\\"lo\"@gmail.com",
+				"josé@gmail.com", "melo@exemplo.com.br", "melo@münchen.de", "melo@[192.168.0.1]",
+				"melo@[IPv6:2001:db8::1]", "melo@[300.1.1.1]", "me lo@gmail.com", "melo@gma il.com",
+				"melo@gmail.com\n", "a".repeat(64) + "@x.com", "a".repeat(65) + "@x.com",
+				"melo@" + "a".repeat(63) + ".com", "melo@" + "a".repeat(64) + ".com",
+				"melo@" + "abcdefghi.".repeat(25) + "com", "melo@" + "abcdefghi.".repeat(26) + "com"));
+		values.addAll(random("ab.-@\"[]1!é ", 50_000, 10));
+		assertSame("email", values);
+	}
+
+	private void assertSame(String property, List<String> values) {
+		for (String value : values) {
+			boolean expected = validator.validateValue(Legacy.class, property, value).isEmpty();
+			boolean actual = validator.validateValue(Current.class, property, value).isEmpty();
+			assertEquals(expected, actual, () -> property + ": [" + value + "]");
+		}
+	}
+
+	// Strings aleatórias (semente fixa) com os caracteres que mais importam para cada regra
+	private static List<String> random(String alphabet, int count, int maxLength) {
+		Random random = new Random(7);
+		List<String> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			StringBuilder value = new StringBuilder();
+			int length = random.nextInt(maxLength + 1);
+			for (int j = 0; j < length; j++) {
+				value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			values.add(value.toString());
+		}
+		return values;
+	}
+}
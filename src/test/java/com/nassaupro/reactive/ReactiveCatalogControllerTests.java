@@ -0,0 +1,85 @@
+package com.nassaupro.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.nassaupro.crud.clientdto.ServiceDetailDTO;
+import com.nassaupro.crud.pagination.KeysetCursor;
+
+/**
+ * A API reativa contra o H2 via r2dbc-h2, com o esquema e os dados de db/reactive.
+ */
+// O tipo da aplicação precisa vir aqui: com MVC e WebFlux no classpath o teste assumiria servlet
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.config.name=reactive", "spring.main.web-application-type=reactive" })
+@ActiveProfiles("test")
+class ReactiveCatalogControllerTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void listsCategoriesByCursor() {
+		webTestClient.get().uri("/categories/list?size=2").exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.items.length()").isEqualTo(2)
+				.jsonPath("$.items[0].name").isEqualTo("Fitness")
+				.jsonPath("$.nextCursor").isEqualTo(KeysetCursor.encode(2L));
+
+		webTestClient.get().uri("/categories/list?size=2&cursor=" + KeysetCursor.encode(2L)).exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.items.length()").isEqualTo(1)
+				.jsonPath("$.items[0].id").isEqualTo(3)
+				.jsonPath("$.nextCursor").doesNotExist();
+	}
+
+	@Test
+	void listsServices() {
+		webTestClient.get().uri("/services/list").exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.items.length()").isEqualTo(3)
+				.jsonPath("$.items[2].name").isEqualTo("Massagem");
+	}
+
+	@Test
+	void rejectsInvalidCursor() {
+		webTestClient.get().uri("/services/list?cursor=nao-e-um-cursor").exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void findsClientById() {
+		webTestClient.get().uri("/clients/list/1").exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.fulanoHumberto").isEqualTo("Melo")
+				.jsonPath("$.email").isEqualTo("melo.meloso@gmail.com");
+
+		webTestClient.get().uri("/clients/list/99").exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void exportsServicesAsNdjson() {
+		List<ServiceDetailDTO> services = webTestClient.get().uri("/services/export")
+				.accept(MediaType.APPLICATION_NDJSON).exchange()
+				.expectStatus().isOk()
+				.returnResult(ServiceDetailDTO.class).getResponseBody()
+				.collectList().block();
+
+		assertEquals(3, services.size());
+		assertEquals(120.0, services.get(0).getPrice());
+		assertEquals(3L, services.get(2).getCategoryId());
+	}
+}
@@ -0,0 +1,9 @@
+INSERT INTO CATEGORIES VALUES (1, 'Fitness', 'Categoria de serviços de condicionamento físico');
+INSERT INTO CATEGORIES VALUES (2, 'Beleza', 'Categoria de serviços de estética');
+INSERT INTO CATEGORIES VALUES (3, 'Saúde', 'Categoria de serviços de saúde');
+
+INSERT INTO CLIENTS VALUES (1, 'Melo', 'Meloso', 'melo.meloso@gmail.com', '81912345678');
+
+INSERT INTO SERVICES VALUES (1, 'Personal trainer', 'Treino individual', 120.0, 1, 1);
+INSERT INTO SERVICES VALUES (2, 'Yoga', 'Aula em grupo', 60.0, 1, 1);
+INSERT INTO SERVICES VALUES (3, 'Massagem', 'Massagem relaxante', 90.0, 3, 1);
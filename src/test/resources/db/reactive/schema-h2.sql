@@ -0,0 +1,23 @@
+-- Só as colunas lidas pela API reativa; na aplicação o esquema vem do Hibernate
+CREATE TABLE CATEGORIES (
+    CATEGORY_ID BIGINT PRIMARY KEY,
+    CATEGORY_NAME VARCHAR(100) NOT NULL,
+    CATEGORY_DESCRIPTION VARCHAR(500) NOT NULL
+);
+
+CREATE TABLE CLIENTS (
+    CLIENT_ID BIGINT PRIMARY KEY,
+    F_NAME VARCHAR(40) NOT NULL,
+    L_NAME VARCHAR(40) NOT NULL,
+    EMAIL VARCHAR(255) NOT NULL,
+    PHONE_NUMBER VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE SERVICES (
+    SERVICE_ID BIGINT PRIMARY KEY,
+    SERVICE_NAME VARCHAR(255) NOT NULL,
+    SERVICE_DESCRIPTION VARCHAR(255),
+    SERVICE_PRICE DOUBLE PRECISION NOT NULL,
+    CATEGORY_ID BIGINT NOT NULL REFERENCES CATEGORIES (CATEGORY_ID),
+    CLIENT_ID BIGINT NOT NULL REFERENCES CLIENTS (CLIENT_ID)
+);